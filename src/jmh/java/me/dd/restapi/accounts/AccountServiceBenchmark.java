@@ -0,0 +1,58 @@
+package me.dd.restapi.accounts;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+
+/**
+ * 토큰을 발급하거나 검증할 때마다 호출되는 AccountService.loadUserByUsername 의 비용을 잰다.
+ * 저장소는 메모리에서 바로 계정을 돌려주므로 DB 를 뺀 캐시 조회, UserDetails 복사와
+ * 캐시에 없을 때 AccountRole 을 GrantedAuthority 로 바꾸는 비용만 남는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AccountServiceBenchmark {
+
+    private static final String EMAIL = "benchmark@dd.me";
+
+    private AccountService accountService;
+    private UserDetailsCache userDetailsCache;
+
+    @Setup
+    public void setUp() {
+        Account account = Account.builder()
+            .email(EMAIL)
+            .password("{noop}benchmark")
+            .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+            .build();
+        userDetailsCache = new UserDetailsCache(10_000, Duration.ofMinutes(5));
+        accountService = new AccountService(new InMemoryAccountRepository(account),
+            PasswordEncoderFactories.createDelegatingPasswordEncoder(), userDetailsCache);
+    }
+
+    @Benchmark
+    public UserDetails loadCached() {
+        return accountService.loadUserByUsername(EMAIL);
+    }
+
+    @Benchmark
+    public UserDetails loadUncached() {
+        userDetailsCache.evict(EMAIL);
+        return accountService.loadUserByUsername(EMAIL);
+    }
+}
@@ -0,0 +1,152 @@
+package me.dd.restapi.accounts;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 계정 하나를 메모리에 들고 이메일로만 찾아 주는 AccountRepository. 벤치마크에서 DB 를 빼려고 쓰며,
+ * AccountService.loadUserByUsername 이 부르지 않는 메소드는 지원하지 않는다.
+ */
+class InMemoryAccountRepository implements AccountRepository {
+
+    private final Account account;
+
+    InMemoryAccountRepository(Account account) {
+        this.account = account;
+    }
+
+    @Override
+    public Optional<Account> findByEmail(String username) {
+        return account.getEmail().equals(username) ? Optional.of(account) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Integer> findIdByEmail(String email) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Account> findAll() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Account> findAll(Sort sort) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Page<Account> findAll(Pageable pageable) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Account> findAllById(Iterable<Integer> ids) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long count() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void delete(Account entity) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Account> entities) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteAll() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S extends Account> S save(S entity) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S extends Account> List<S> saveAll(Iterable<S> entities) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<Account> findById(Integer id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean existsById(Integer id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void flush() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S extends Account> S saveAndFlush(S entity) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteInBatch(Iterable<Account> entities) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Account getOne(Integer id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S extends Account> Optional<S> findOne(Example<S> example) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S extends Account> List<S> findAll(Example<S> example) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S extends Account> List<S> findAll(Example<S> example, Sort sort) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S extends Account> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S extends Account> long count(Example<S> example) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S extends Account> boolean exists(Example<S> example) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,57 @@
+package me.dd.restapi.commons;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import me.dd.restapi.events.EventDto;
+
+/**
+ * 400 응답 본문을 만드는 ErrorsSerializer 의 비용을 잰다.
+ * EventValidator 가 잘못된 요청에 남기는 것과 같은 필드 오류 3개와 전역 오류 1개를 직렬화한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ErrorsSerializerBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Errors errors;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(Errors.class, new ErrorsSerializer()));
+        EventDto eventDto = EventDto.builder()
+            .name("Spring")
+            .basePrice(10000)
+            .maxPrice(200)
+            .build();
+        errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        errors.rejectValue("basePrice", "wrongValue", "basePrice is wrong");
+        errors.rejectValue("maxPrice", "wrongValue", "maxPrice is wrong");
+        errors.rejectValue("endEventDateTime", "wrongValue", "endEventDateTime is wrong");
+        errors.reject("wrongPrices", "Values for prices are wrong");
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errors);
+    }
+}
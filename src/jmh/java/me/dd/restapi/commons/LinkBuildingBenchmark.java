@@ -0,0 +1,71 @@
+package me.dd.restapi.commons;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import me.dd.restapi.events.EventController;
+
+/**
+ * 100개짜리 이벤트 목록 한 페이지의 self 링크를 만드는 비용을 WebMvcLinkBuilder 와 RequestLinks 로 비교한다.
+ * 한 번의 호출이 요청 하나에 해당하며, 요청 속성에 캐시된 값이 없는 상태에서 시작한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LinkBuildingBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Benchmark
+    public List<Link> webMvcLinkBuilder() {
+        bindRequest();
+        try {
+            List<Link> links = new ArrayList<>(PAGE_SIZE);
+            for (int id = 0; id < PAGE_SIZE; id++) {
+                links.add(linkTo(EventController.class).slash(id).withSelfRel());
+            }
+            return links;
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Benchmark
+    public List<Link> requestLinks() {
+        bindRequest();
+        try {
+            List<Link> links = new ArrayList<>(PAGE_SIZE);
+            for (int id = 0; id < PAGE_SIZE; id++) {
+                links.add(RequestLinks.event(id).withSelfRel());
+            }
+            return links;
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private void bindRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.setServerName("api.example.com");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
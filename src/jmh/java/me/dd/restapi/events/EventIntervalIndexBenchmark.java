@@ -0,0 +1,115 @@
+package me.dd.restapi.events;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import me.dd.restapi.DemoApplication;
+
+/**
+ * "지금 등록 중인 이벤트" 조회를 EventIntervalIndex 와 같은 조건의 JPA 쿼리로 비교한다.
+ * 이벤트는 3년에 걸쳐 흩어져 있고 등록 기간은 1~7일이다. 적은 건수로 확인할 때는 -p events=10000 을 준다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventIntervalIndexBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final int DAYS = 3 * 365;
+    private static final int POINTS = 1024;
+
+    @Param({"1000000"})
+    private int events;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private EventIntervalIndex eventIntervalIndex;
+    private LocalDateTime[] points;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoApplication.class).run(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:benchmark",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.properties.hibernate.generate_statistics=false");
+        eventRepository = context.getBean(EventRepository.class);
+        eventIntervalIndex = context.getBean(EventIntervalIndex.class);
+
+        insertEvents(context.getBean(JdbcTemplate.class));
+        context.getBean(EventIntervalIndexLoader.class).load();
+
+        Random random = new Random(42);
+        points = new LocalDateTime[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            points[i] = START.plusMinutes(random.nextInt(DAYS * 24 * 60));
+        }
+    }
+
+    private void insertEvents(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(7);
+        List<Object[]> rows = new ArrayList<>();
+        for (int id = 1; id <= events; id++) {
+            LocalDateTime beginEnrollment = START.plusMinutes(random.nextInt(DAYS * 24 * 60));
+            LocalDateTime closeEnrollment = beginEnrollment.plusDays(1 + random.nextInt(7));
+            LocalDateTime beginEvent = closeEnrollment.plusDays(1);
+            rows.add(new Object[] {id, "event " + id, Timestamp.valueOf(beginEnrollment),
+                Timestamp.valueOf(closeEnrollment), Timestamp.valueOf(beginEvent),
+                Timestamp.valueOf(beginEvent.plusHours(3))});
+            if (rows.size() == 10_000 || id == events) {
+                jdbcTemplate.batchUpdate("insert into event (id, name, begin_enrollment_date_time,"
+                    + " close_enrollment_date_time, begin_event_date_time, end_event_date_time, event_status,"
+                    + " base_price, max_price, limit_of_enrollment, offline, free, version)"
+                    + " values (?, ?, ?, ?, ?, ?, 'BEGAN_ENROLLMENT', 0, 0, 0, false, true, 0)", rows);
+                rows.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private LocalDateTime nextPoint() {
+        return points[next++ & (POINTS - 1)];
+    }
+
+    @Benchmark
+    public List<EventSummary> intervalIndex() {
+        return eventIntervalIndex.findEnrollingAt(nextPoint());
+    }
+
+    @Benchmark
+    public List<Event> jpaQuery() {
+        return eventRepository.findEnrollingAt(nextPoint());
+    }
+}
@@ -0,0 +1,61 @@
+package me.dd.restapi.events;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * createEvent 에서 EventDto 를 Event 로 바꾸는 비용을 ModelMapper 와 EventMapper 로 비교한다.
+ * 할당량은 -prof gc 로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EventMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private EventMapper eventMapper;
+    private EventDto eventDto;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        eventMapper = new EventMapper();
+        eventDto = EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2020, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2020, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2020, 6, 8, 12, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("강남역 D2 스타트업 팩토리")
+            .build();
+    }
+
+    @Benchmark
+    public Event modelMapper() {
+        Event event = modelMapper.map(eventDto, Event.class);
+        event.update();
+        return event;
+    }
+
+    @Benchmark
+    public Event eventMapper() {
+        return eventMapper.toEvent(eventDto);
+    }
+}
@@ -0,0 +1,127 @@
+package me.dd.restapi.events;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.PagedModel.PageMetadata;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.hateoas.server.core.DelegatingLinkRelationProvider;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import me.dd.restapi.accounts.Account;
+import me.dd.restapi.accounts.AccountRole;
+
+/**
+ * HAL 응답 직렬화 비용을 엔티티(리플렉션 기반 bean 직렬화)와 EventView(EventViewSerializer)로 비교한다.
+ * 목록은 목록 조회 응답과 같은 20개짜리 PagedModel 이다. 응답당 할당량은 -prof gc 로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EventSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+    private EntityModel<Event> entityModel;
+    private EventResource eventResource;
+    private PagedModel<EntityModel<Event>> entityPage;
+    private PagedModel<EventResource> viewPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new Jackson2HalModule())
+            .registerModule(new SimpleModule().addSerializer(EventView.class, new EventViewSerializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+            new DelegatingLinkRelationProvider(new AnnotationLinkRelationProvider(), new DefaultLinkRelationProvider()),
+            CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+
+        Account manager = Account.builder()
+            .id(1)
+            .email("manager@n1.com")
+            .password("{bcrypt}$2a$10$7sQm1jLQ3lS1Sx1p0x3x0eQ0v6k8nq3wz3d8x3m5r2r0d3q8r5y2G")
+            .roles(new HashSet<>(Set.of(AccountRole.ADMIN, AccountRole.USER)))
+            .build();
+        List<EntityModel<Event>> entities = new ArrayList<>();
+        List<EventResource> views = new ArrayList<>();
+        for (int id = 1; id <= PAGE_SIZE; id++) {
+            Event event = event(id, manager);
+            entities.add(new EntityModel<>(event, new Link("http://localhost/api/events/" + id)));
+            views.add(new EventResource(EventView.of(event)));
+        }
+        entityModel = entities.get(0);
+        eventResource = views.get(0);
+        PageMetadata metadata = new PageMetadata(PAGE_SIZE, 0, 1000);
+        entityPage = new PagedModel<>(entities, metadata, new Link("http://localhost/api/events?page=0&size=20"));
+        viewPage = new PagedModel<>(views, metadata, new Link("http://localhost/api/events?page=0&size=20"));
+    }
+
+    private Event event(int id, Account manager) {
+        return Event.builder()
+            .id(id)
+            .name("Spring " + id)
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2020, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2020, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2020, 6, 8, 12, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("강남역 D2 스타트업 팩토리")
+            .offline(true)
+            .eventStatus(EventStatus.PUBLISHED)
+            .manager(manager)
+            .build();
+    }
+
+    @Benchmark
+    public byte[] entity() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(entityModel);
+    }
+
+    @Benchmark
+    public byte[] view() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(eventResource);
+    }
+
+    @Benchmark
+    public byte[] entityPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(entityPage);
+    }
+
+    @Benchmark
+    public byte[] viewPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(viewPage);
+    }
+}
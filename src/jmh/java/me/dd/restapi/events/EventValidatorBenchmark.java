@@ -0,0 +1,83 @@
+package me.dd.restapi.events;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+/**
+ * createEvent, updateEvent 마다 호출되는 EventValidator 와 Event.update 의 비용을 잰다.
+ * 잘못된 요청은 rejectValue 로 FieldError 를 만드는 비용까지 포함한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EventValidatorBenchmark {
+
+    private EventValidator eventValidator;
+    private EventDto validDto;
+    private EventDto wrongDto;
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        eventValidator = new EventValidator();
+        validDto = EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2020, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2020, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2020, 6, 8, 12, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("강남역 D2 스타트업 팩토리")
+            .build();
+        wrongDto = EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2020, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2020, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2020, 6, 4, 12, 0))
+            .basePrice(10000)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("강남역 D2 스타트업 팩토리")
+            .build();
+        event = new EventMapper().toEvent(validDto);
+    }
+
+    @Benchmark
+    public Errors validate() {
+        Errors errors = new BeanPropertyBindingResult(validDto, "eventDto");
+        eventValidator.validate(validDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors validateWrong() {
+        Errors errors = new BeanPropertyBindingResult(wrongDto, "eventDto");
+        eventValidator.validate(wrongDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Event update() {
+        event.update();
+        return event;
+    }
+}
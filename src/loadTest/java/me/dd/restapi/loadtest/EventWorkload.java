@@ -0,0 +1,145 @@
+package me.dd.restapi.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import me.dd.restapi.events.EventDto;
+
+/**
+ * EventController 에 보낼 요청을 비율에 맞춰 고른다. 요청 본문은 미리 직렬화해 두어
+ * 부하 생성기 쪽의 비용이 측정값에 섞이지 않도록 한다.
+ */
+class EventWorkload {
+
+    private static final int LIST_PAGES = 5;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    enum Operation {
+        LIST("GET /api/events"),
+        GET("GET /api/events/{id}"),
+        CREATE("POST /api/events"),
+        UPDATE("PUT /api/events/{id}");
+
+        private final String endpoint;
+
+        Operation(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        String getEndpoint() {
+            return endpoint;
+        }
+
+        String getLabel() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 토큰 하나와 그 계정이 관리하는 이벤트. 수정 요청은 자기 이벤트에만 보낸다.
+     */
+    static class User {
+
+        private final String authorization;
+        private final int[] eventIds;
+
+        User(String accessToken, List<Integer> eventIds) {
+            this.authorization = "Bearer " + accessToken;
+            this.eventIds = eventIds.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    private final URI baseUri;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final List<User> users;
+    private final int[] eventIds;
+    private final byte[] createBody;
+    private final byte[] updateBody;
+
+    EventWorkload(URI baseUri, ObjectMapper objectMapper, Map<Operation, Integer> mix, List<User> users,
+        List<Integer> eventIds) throws JsonProcessingException {
+        this.baseUri = baseUri;
+        this.operations = mix.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.users = users;
+        this.eventIds = eventIds.stream().mapToInt(Integer::intValue).toArray();
+        this.createBody = objectMapper.writeValueAsBytes(eventDto("Load test created event"));
+        this.updateBody = objectMapper.writeValueAsBytes(eventDto("Load test updated event"));
+    }
+
+    Operation nextOperation() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        User user = users.get(random.nextInt(users.size()));
+        switch (operation) {
+            case LIST:
+                return builder(user, "/api/events?size=20&page=" + random.nextInt(LIST_PAGES)).GET().build();
+            case GET:
+                return builder(user, "/api/events/" + eventIds[random.nextInt(eventIds.length)]).GET().build();
+            case CREATE:
+                return builder(user, "/api/events")
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(BodyPublishers.ofByteArray(createBody))
+                    .build();
+            case UPDATE:
+                return builder(user, "/api/events/" + user.eventIds[random.nextInt(user.eventIds.length)])
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .PUT(BodyPublishers.ofByteArray(updateBody))
+                    .build();
+            default:
+                throw new IllegalArgumentException(operation.name());
+        }
+    }
+
+    private HttpRequest.Builder builder(User user, String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(REQUEST_TIMEOUT)
+            .header(HttpHeaders.AUTHORIZATION, user.authorization)
+            .header(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE);
+    }
+
+    private EventDto eventDto(String name) {
+        LocalDateTime begin = LocalDateTime.of(2031, 6, 7, 14, 0);
+        return EventDto.builder()
+            .name(name)
+            .description("REST API load test")
+            .beginEnrollmentDateTime(begin.minusDays(7))
+            .closeEnrollmentDateTime(begin.minusDays(1))
+            .beginEventDateTime(begin)
+            .endEventDateTime(begin.plusHours(2))
+            .location("강남역 D2 스타트업 팩토리")
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .build();
+    }
+}
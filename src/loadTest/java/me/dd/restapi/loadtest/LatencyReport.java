@@ -0,0 +1,106 @@
+package me.dd.restapi.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트별 지연(마이크로초)을 HdrHistogram 에 모은다. 실패한 요청도 지연에 포함하고 errors 로 따로 센다.
+ * 보내지 못한(dropped) 요청은 끝나지 않았으므로 count, req/s 와 퍼센타일에 넣지 않고 따로 센다.
+ * 대신 가장 밀릴 때의 지연이 퍼센타일에서 빠지므로 하나라도 있으면 측정 자체를 무효로 표시한다.
+ * 결과는 표로 출력하고, 엔드포인트마다 퍼센타일 분포(.hgrm, 밀리초)를 파일로 남긴다.
+ */
+class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<EventWorkload.Operation, Histogram> histograms = new EnumMap<>(EventWorkload.Operation.class);
+    private final Map<EventWorkload.Operation, LongAdder> errors = new EnumMap<>(EventWorkload.Operation.class);
+    private final Map<EventWorkload.Operation, LongAdder> dropped = new EnumMap<>(EventWorkload.Operation.class);
+    private long elapsedNanos;
+
+    LatencyReport() {
+        for (EventWorkload.Operation operation : EventWorkload.Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+            dropped.put(operation, new LongAdder());
+        }
+    }
+
+    void record(EventWorkload.Operation operation, long latencyNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(micros);
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    void dropped(EventWorkload.Operation operation) {
+        dropped.get(operation).increment();
+    }
+
+    long droppedCount() {
+        return dropped.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    void print(PrintStream out) {
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        out.printf("%-22s %8s %7s %8s %9s %9s %9s %10s %9s%n",
+            "endpoint", "count", "errors", "dropped", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        histograms.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() == 0 && dropped.get(operation).sum() == 0) {
+                return;
+            }
+            out.printf("%-22s %8d %7d %8d %9.1f %9.2f %9.2f %10.2f %9.2f%n",
+                operation.getEndpoint(),
+                histogram.getTotalCount(),
+                errors.get(operation).sum(),
+                dropped.get(operation).sum(),
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+        });
+        long droppedCount = droppedCount();
+        if (droppedCount > 0) {
+            out.printf("INVALID: 요청 %d개를 동시 요청 상한 때문에 보내지 못했다. 이 요청들은 지연과 req/s 에 들어가지 않아"
+                + " 결과가 실제보다 좋게 보인다. rate 를 낮추거나 loadtest.max-in-flight 를 올려 다시 측정한다.%n",
+                droppedCount);
+        }
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            print(summary);
+        }
+        for (Map.Entry<EventWorkload.Operation, Histogram> entry : histograms.entrySet()) {
+            if (entry.getValue().getTotalCount() == 0) {
+                continue;
+            }
+            Path file = directory.resolve(entry.getKey().getLabel() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,203 @@
+package me.dd.restapi.loadtest;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.dd.restapi.DemoApplication;
+import me.dd.restapi.accounts.Account;
+import me.dd.restapi.accounts.AccountRole;
+import me.dd.restapi.accounts.AccountService;
+import me.dd.restapi.events.Event;
+import me.dd.restapi.events.EventIntervalIndex;
+import me.dd.restapi.events.EventRepository;
+import me.dd.restapi.events.EventStatus;
+
+/**
+ * 이벤트 API 부하 테스트. loadtest 프로파일(H2, 로그 줄임)로 애플리케이션을 띄우고 계정과 이벤트를 만든 뒤,
+ * 계정마다 /oauth/token 에서 받은 토큰으로 목록/조회/생성/수정 요청을 목표 비율(open-loop)로 보낸다.
+ * 엔드포인트별 지연 분포는 HdrHistogram 형식으로 남기므로 PR 사이의 결과를 비교할 수 있다.
+ * 측정하는 동안 Tomcat 스레드와 JDBC/R2DBC 커넥션의 최댓값도 함께 출력한다({@link ResourceSampler}).
+ *
+ * <pre>./gradlew loadTest -Ploadtest.rate=500 -Ploadtest.duration=PT2M</pre>
+ *
+ * 설정은 {@link LoadTestSettings} 를 참고한다.
+ */
+public class LoadTest {
+
+    private static final String CLIENT_ID = "myApp";
+    private static final String CLIENT_SECRET = "pass";
+    private static final String PASSWORD = "loadtest";
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private final ConfigurableApplicationContext context;
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final URI baseUri;
+
+    private LoadTest(ConfigurableApplicationContext context, ExecutorService executor) {
+        this.context = context;
+        this.settings = LoadTestSettings.of(context.getEnvironment());
+        this.objectMapper = context.getBean(ObjectMapper.class);
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(executor)
+            .build();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.baseUri = URI.create("http://localhost:" + port);
+    }
+
+    public static void main(String[] args) throws Exception {
+        SpringApplication application = new SpringApplication(DemoApplication.class);
+        application.setAdditionalProfiles("loadtest");
+
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        boolean valid;
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            valid = new LoadTest(context, executor).run();
+        } finally {
+            executor.shutdownNow();
+        }
+        if (!valid) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 측정하고 결과를 남긴다. 보내지 못한 요청이 있어 결과가 무효면 false 를 돌려준다.
+     */
+    private boolean run() throws Exception {
+        System.out.printf("계정 %d개, 이벤트 %d개를 만드는 중...%n", settings.getAccounts(), settings.getEvents());
+        List<Account> accounts = seedAccounts();
+        Map<Account, List<Integer>> events = seedEvents(accounts);
+
+        List<EventWorkload.User> users = new ArrayList<>();
+        for (Account account : accounts) {
+            users.add(new EventWorkload.User(token(account.getEmail()), events.get(account)));
+        }
+        List<Integer> eventIds = events.values().stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+
+        EventWorkload workload = new EventWorkload(baseUri, objectMapper, settings.getMix(), users, eventIds);
+        OpenLoopGenerator generator = new OpenLoopGenerator(httpClient, workload, settings.getRate(),
+            settings.getMaxInFlight());
+
+        System.out.printf("%s 동안 워밍업 (%d req/s)...%n", settings.getWarmup(), settings.getRate());
+        generator.run(settings.getWarmup());
+        System.out.printf("%s 동안 측정 (%d req/s)...%n", settings.getDuration(), settings.getRate());
+        LatencyReport report;
+        try (ResourceSampler sampler = new ResourceSampler(context.getBean(MeterRegistry.class))) {
+            report = generator.run(settings.getDuration());
+            sampler.print(System.out);
+        }
+
+        report.print(System.out);
+        report.write(settings.getReportDir());
+        System.out.printf("HdrHistogram 결과: %s%n", settings.getReportDir().toAbsolutePath());
+        return report.droppedCount() == 0;
+    }
+
+    private List<Account> seedAccounts() {
+        AccountService accountService = context.getBean(AccountService.class);
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < settings.getAccounts(); i++) {
+            accounts.add(accountService.saveAccount(Account.builder()
+                .email("loadtest" + i + "@dd.me")
+                .password(PASSWORD)
+                .roles(Set.of(AccountRole.USER))
+                .build()));
+        }
+        return accounts;
+    }
+
+    private Map<Account, List<Integer>> seedEvents(List<Account> accounts) {
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+        EventIntervalIndex eventIntervalIndex = context.getBean(EventIntervalIndex.class);
+        Map<Account, List<Integer>> events = accounts.stream()
+            .collect(Collectors.toMap(account -> account, account -> new ArrayList<>()));
+
+        List<Event> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < settings.getEvents(); i++) {
+            batch.add(event(i, accounts.get(i % accounts.size())));
+            if (batch.size() == SEED_BATCH_SIZE || i == settings.getEvents() - 1) {
+                for (Event saved : eventRepository.saveAll(batch)) {
+                    eventIntervalIndex.put(saved);
+                    events.get(saved.getManager()).add(saved.getId());
+                }
+                batch.clear();
+            }
+        }
+        return events;
+    }
+
+    private Event event(int i, Account manager) {
+        LocalDateTime begin = LocalDateTime.of(2030, 1, 1, 10, 0).plusHours(i);
+        Event event = Event.builder()
+            .name("Load test event " + i)
+            .description("REST API load test")
+            .beginEnrollmentDateTime(begin.minusDays(7))
+            .closeEnrollmentDateTime(begin.minusDays(1))
+            .beginEventDateTime(begin)
+            .endEventDateTime(begin.plusHours(2))
+            .location(i % 2 == 0 ? "강남역 D2 스타트업 팩토리" : null)
+            .basePrice(i % 5 == 0 ? 0 : 100)
+            .maxPrice(i % 5 == 0 ? 0 : 200)
+            .limitOfEnrollment(100)
+            .eventStatus(EventStatus.PUBLISHED)
+            .manager(manager)
+            .build();
+        event.update();
+        return event;
+    }
+
+    private String token(String email) throws IOException, InterruptedException {
+        String form = "grant_type=password"
+            + "&username=" + URLEncoder.encode(email, UTF_8)
+            + "&password=" + URLEncoder.encode(PASSWORD, UTF_8);
+        String credentials = Base64.getEncoder().encodeToString((CLIENT_ID + ":" + CLIENT_SECRET).getBytes(UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/oauth/token"))
+            .header(HttpHeaders.AUTHORIZATION, "Basic " + credentials)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+            .POST(BodyPublishers.ofString(form))
+            .build();
+        HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(
+                "토큰을 받지 못했습니다. status=" + response.statusCode() + ", body=" + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("access_token").asText();
+    }
+}
@@ -0,0 +1,106 @@
+package me.dd.restapi.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.core.env.Environment;
+
+/**
+ * 부하 테스트 설정. gradle 프로퍼티(-Ploadtest.rate=500)나 실행 인자(--loadtest.rate=500)로 바꾼다.
+ *
+ * <ul>
+ *     <li>loadtest.accounts: 토큰을 받을 계정 수 (기본 10)</li>
+ *     <li>loadtest.events: 미리 만들 이벤트 수 (기본 10000)</li>
+ *     <li>loadtest.rate: 초당 요청 수 (기본 200)</li>
+ *     <li>loadtest.warmup, loadtest.duration: 워밍업, 측정 시간 (기본 PT10S, PT60S)</li>
+ *     <li>loadtest.mix: 요청 비율 (기본 list:40,get:40,create:10,update:10)</li>
+ *     <li>loadtest.max-in-flight: 동시에 기다리는 요청 상한. 넘치면 보내지 않고 dropped 로 세며 결과는 무효가 된다 (기본 1000)</li>
+ *     <li>loadtest.report-dir: HdrHistogram 결과 디렉토리 (기본 build/reports/loadtest)</li>
+ * </ul>
+ */
+class LoadTestSettings {
+
+    private final int accounts;
+    private final int events;
+    private final int rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<EventWorkload.Operation, Integer> mix;
+    private final int maxInFlight;
+    private final Path reportDir;
+
+    private LoadTestSettings(Environment environment) {
+        this.accounts = environment.getProperty("loadtest.accounts", Integer.class, 10);
+        this.events = environment.getProperty("loadtest.events", Integer.class, 10_000);
+        this.rate = environment.getProperty("loadtest.rate", Integer.class, 200);
+        this.warmup = environment.getProperty("loadtest.warmup", Duration.class, Duration.ofSeconds(10));
+        this.duration = environment.getProperty("loadtest.duration", Duration.class, Duration.ofSeconds(60));
+        this.mix = parseMix(environment.getProperty("loadtest.mix", "list:40,get:40,create:10,update:10"));
+        this.maxInFlight = environment.getProperty("loadtest.max-in-flight", Integer.class, 1000);
+        this.reportDir = Paths.get(environment.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        if (accounts < 1 || events < accounts || rate < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("loadtest.accounts, events, rate, max-in-flight 는 1 이상이어야 하며"
+                + " events 는 accounts 보다 작을 수 없습니다.");
+        }
+    }
+
+    static LoadTestSettings of(Environment environment) {
+        return new LoadTestSettings(environment);
+    }
+
+    private static Map<EventWorkload.Operation, Integer> parseMix(String value) {
+        Map<EventWorkload.Operation, Integer> mix = new EnumMap<>(EventWorkload.Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식이 잘못되었습니다: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("loadtest.mix 비율은 0 이상이어야 합니다: " + entry);
+            }
+            mix.put(EventWorkload.Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("loadtest.mix 에 요청이 하나도 없습니다: " + value);
+        }
+        return Collections.unmodifiableMap(mix);
+    }
+
+    int getAccounts() {
+        return accounts;
+    }
+
+    int getEvents() {
+        return events;
+    }
+
+    int getRate() {
+        return rate;
+    }
+
+    Duration getWarmup() {
+        return warmup;
+    }
+
+    Duration getDuration() {
+        return duration;
+    }
+
+    Map<EventWorkload.Operation, Integer> getMix() {
+        return mix;
+    }
+
+    int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    Path getReportDir() {
+        return reportDir;
+    }
+}
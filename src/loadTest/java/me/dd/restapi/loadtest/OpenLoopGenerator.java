@@ -0,0 +1,64 @@
+package me.dd.restapi.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 응답을 기다리지 않고 정해진 간격으로 요청을 보내는 open-loop 부하 생성기.
+ * 지연은 요청을 보내기로 한 시각부터 재므로, 서버가 밀려 요청이 늦게 나가면 그 대기 시간도 지연에 포함된다
+ * (coordinated omission 보정). 동시 요청 상한을 넘어 보내지 못한 요청은 dropped 로만 세고 결과를 무효로 표시한다.
+ * 보내지 못한 만큼 서버가 가장 밀릴 때의 지연이 퍼센타일에서 빠지기 때문이다.
+ */
+class OpenLoopGenerator {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final EventWorkload workload;
+    private final long intervalNanos;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    OpenLoopGenerator(HttpClient httpClient, EventWorkload workload, int rate, int maxInFlight) {
+        this.httpClient = httpClient;
+        this.workload = workload;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    LatencyReport run(Duration duration) throws InterruptedException {
+        LatencyReport report = new LatencyReport();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long delay = intended - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            EventWorkload.Operation operation = workload.nextOperation();
+            if (!inFlight.tryAcquire()) {
+                report.dropped(operation);
+                continue;
+            }
+            long scheduledAt = intended;
+            httpClient.sendAsync(workload.request(operation), BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    boolean success = error == null && response.statusCode() / 100 == 2;
+                    report.record(operation, System.nanoTime() - scheduledAt, success);
+                    inFlight.release();
+                });
+        }
+
+        if (inFlight.tryAcquire(maxInFlight, DRAIN_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)) {
+            inFlight.release(maxInFlight);
+        }
+        report.finish(System.nanoTime() - start);
+        return report;
+    }
+}
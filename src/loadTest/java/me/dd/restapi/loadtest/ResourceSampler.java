@@ -0,0 +1,72 @@
+package me.dd.restapi.loadtest;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 측정하는 동안 서버의 스레드와 DB 커넥션 게이지를 주기적으로 읽어 최댓값을 남긴다.
+ * MVC/JPA 와 reactive 경로가 같은 동시 요청에서 Tomcat 스레드와 JDBC, R2DBC 커넥션을 얼마나 잡는지 비교하는 데 쓴다.
+ * 등록되지 않은 게이지(예: MVC 로 띄웠을 때의 r2dbc.pool.*)는 건너뛴다.
+ */
+class ResourceSampler implements AutoCloseable {
+
+    private static final long INTERVAL_MILLIS = 50;
+    private static final List<String> GAUGES = List.of(
+        "tomcat.threads.busy",
+        "tomcat.threads.current",
+        "tomcat.connections.current",
+        "hikaricp.connections.active",
+        "hikaricp.connections.pending",
+        "r2dbc.pool.acquired",
+        "r2dbc.pool.pending",
+        "jvm.threads.live");
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Double> peaks = new LinkedHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "loadtest-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    ResourceSampler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        executor.scheduleAtFixedRate(this::sample, 0, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void sample() {
+        for (String name : GAUGES) {
+            for (Gauge gauge : meterRegistry.find(name).gauges()) {
+                double value = gauge.value();
+                if (!Double.isNaN(value)) {
+                    peaks.merge(name, value, Math::max);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    synchronized void print(PrintStream out) {
+        out.println("peak resources (jvm.threads.live 는 같은 JVM 의 부하 생성 스레드도 포함한다)");
+        for (String name : GAUGES) {
+            Double peak = peaks.get(name);
+            if (Objects.nonNull(peak)) {
+                out.printf("  %-30s %8.0f%n", name, peak);
+            }
+        }
+    }
+}
@@ -2,8 +2,15 @@ package me.dd.restapi.accounts;
 
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AccountRepository extends JpaRepository<Account, Integer> {
+    @EntityGraph(attributePaths = "roles")
     Optional<Account> findByEmail(String username);
+
+    @Query("select a.id from Account a where a.email = :email")
+    Optional<Integer> findIdByEmail(@Param("email") String email);
 }
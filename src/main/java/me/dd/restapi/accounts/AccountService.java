@@ -4,7 +4,6 @@ import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -14,25 +13,38 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
 public class AccountService implements UserDetailsService {
 
-    @Autowired
-    private AccountRepository accountRepository;
+    private final AccountRepository accountRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
 
-    @Autowired
-    private PasswordEncoder passwordEncoder;
+    public AccountService(AccountRepository accountRepository, PasswordEncoder passwordEncoder,
+        UserDetailsCache userDetailsCache) {
+        this.accountRepository = accountRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userDetailsCache = userDetailsCache;
+    }
 
     public Account saveAccount(Account account) {
+        account.setEmail(UserDetailsCache.normalize(account.getEmail()));
         account.setPassword(this.passwordEncoder.encode(account.getPassword()));
-        return this.accountRepository.save(account);
+        Account savedAccount = this.accountRepository.save(account);
+        this.userDetailsCache.evict(savedAccount.getEmail());
+        return savedAccount;
 
     }
     @Override
+    @Timed(value = "accounts.user-details.load", description = "UserDetails lookup time including the cache")
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Account account = accountRepository.findByEmail(username)
-            .orElseThrow(() -> new UsernameNotFoundException(username));
-        return new User(account.getEmail(), account.getPassword(), authorities(account.getRoles()));
+        return userDetailsCache.get(username, email -> {
+            Account account = accountRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException(username));
+            return new User(account.getEmail(), account.getPassword(), authorities(account.getRoles()));
+        });
     }
 
     private Collection<? extends GrantedAuthority> authorities(Set<AccountRole> roles) {
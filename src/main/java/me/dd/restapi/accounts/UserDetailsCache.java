@@ -0,0 +1,65 @@
+package me.dd.restapi.accounts;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 이메일별 UserDetails 캐시. 크기와 TTL 로 제한되며 hit/miss/eviction 통계를 기록한다.
+ * 인증이 끝나면 Spring Security 가 UserDetails 의 비밀번호를 지우므로 캐시된 객체는 밖으로 내보내지 않고
+ * 매번 복사본을 돌려준다. 통계는 cache 태그가 userDetails 인 캐시 메트릭으로도 내보낸다.
+ */
+@Component
+public class UserDetailsCache implements MeterBinder {
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(
+        @Value("${app.accounts.user-cache.maximum-size:10000}") long maximumSize,
+        @Value("${app.accounts.user-cache.time-to-live:PT5M}") Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+    }
+
+    public static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        UserDetails userDetails = cache.get(normalize(email), loader);
+        return User.withUserDetails(userDetails).build();
+    }
+
+    public void evict(String email) {
+        cache.invalidate(normalize(email));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "userDetails");
+    }
+}
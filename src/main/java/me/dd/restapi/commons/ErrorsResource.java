@@ -1,16 +1,12 @@
 package me.dd.restapi.commons;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
-
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.validation.Errors;
 
-import me.dd.restapi.index.IndexController;
-
 public class ErrorsResource extends EntityModel<Errors> {
     public ErrorsResource(Errors content, Link... links) {
         super(content, links);
-        add(linkTo(methodOn(IndexController.class).index()).withRel("index"));
+        add(RequestLinks.index().withRel("index"));
     }
 }
@@ -0,0 +1,128 @@
+package me.dd.restapi.commons;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 요청마다 내용이 같은 HAL 문서(인덱스 등)를 기준 URI 별로 한번만 직렬화해서 byte[] 로 들고 있다가 그대로 응답한다.
+ * 직렬화는 MVC 가 쓰는 HAL 메시지 컨버터로 하므로 응답 본문은 컨트롤러가 모델을 돌려줄 때와 같고,
+ * ETag 와 Content-Length 는 직렬화할 때 미리 계산한다. 기준 URI 는 Host 헤더로 바뀌므로 들고 있는 개수를 제한한다.
+ * Accept 가 hal+json 을 받지 않으면 모델을 그대로 돌려주어 MVC 의 내용 협상(406 포함)을 따르게 한다.
+ */
+@Component
+public class HalDocumentCache {
+
+    private static final int MAXIMUM_SIZE = 64;
+
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+    private final Cache<String, Document> documents = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .build();
+    private volatile HttpMessageConverter<Object> converter;
+
+    public HalDocumentCache(ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter) {
+        this.handlerAdapter = handlerAdapter;
+    }
+
+    /**
+     * path 의 문서를 응답한다. 처음이면 model 로 만들어 직렬화한다. If-None-Match 가 맞으면 null 을 돌려주고 304 가 나간다.
+     * hal+json 을 받지 않는 요청에는 직렬화하지 않은 model 을 돌려준다.
+     */
+    public ResponseEntity<?> respond(String path, WebRequest webRequest,
+        Supplier<? extends RepresentationModel<?>> model) {
+        if (!acceptsHal(webRequest)) {
+            return ResponseEntity.ok(model.get());
+        }
+        Document document = documents.get(RequestLinks.baseUri() + path, key -> serialize(model.get()));
+        if (webRequest.checkNotModified(document.eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .contentType(MediaTypes.HAL_JSON)
+            .contentLength(document.body.length)
+            .eTag(document.eTag)
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(document.body);
+    }
+
+    private boolean acceptsHal(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (Objects.isNull(accept)) {
+            return true;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        return mediaTypes.stream()
+            .anyMatch(mediaType -> mediaType.getQualityValue() > 0 && mediaType.includes(MediaTypes.HAL_JSON));
+    }
+
+    private Document serialize(RepresentationModel<?> model) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpHeaders headers = new HttpHeaders();
+        try {
+            halConverter().write(model, MediaTypes.HAL_JSON, new HttpOutputMessage() {
+                @Override
+                public OutputStream getBody() {
+                    return body;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return headers;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] bytes = body.toByteArray();
+        return new Document(bytes, "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpMessageConverter<Object> halConverter() {
+        if (Objects.isNull(converter)) {
+            converter = (HttpMessageConverter<Object>) handlerAdapter.getObject().getMessageConverters().stream()
+                .filter(c -> c.canWrite(RepresentationModel.class, MediaTypes.HAL_JSON))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No HAL message converter"));
+        }
+        return converter;
+    }
+
+    private static final class Document {
+
+        private final byte[] body;
+        private final String eTag;
+
+        private Document(byte[] body, String eTag) {
+            this.body = body;
+            this.eTag = eTag;
+        }
+    }
+}
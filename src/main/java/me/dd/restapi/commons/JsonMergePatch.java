@@ -0,0 +1,37 @@
+package me.dd.restapi.commons;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * RFC 7386 JSON Merge Patch. 패치의 null 은 대상의 키를 지우고, 객체는 키마다 재귀적으로 합치며, 그 밖의 값은 그대로 덮어쓴다.
+ * 복사하지 않고 대상 객체를 직접 고치므로 호출하는 쪽이 새로 만든 트리를 넘긴다.
+ */
+public final class JsonMergePatch {
+
+    public static final String MEDIA_TYPE_VALUE = "application/merge-patch+json";
+
+    private JsonMergePatch() {
+    }
+
+    public static JsonNode apply(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target instanceof ObjectNode ? (ObjectNode) target : JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), apply(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,24 @@
+package me.dd.restapi.commons;
+
+import org.springframework.hateoas.Link;
+
+/**
+ * 응답에 붙는 profile 링크. 문서 경로는 요청과 상관없고 Link 는 불변이므로 한번만 만들어 같이 쓴다.
+ */
+public final class ProfileLinks {
+
+    public static final Link QUERY_LIST = profile("resources-query-list");
+    public static final Link EVENTS_GET = profile("resources-events-get");
+    public static final Link EVENTS_PUT = profile("resources-events-put");
+    public static final Link EVENTS_PATCH = profile("resources-events-patch");
+    public static final Link EVENTS_ENROLLING = profile("resources-events-enrolling");
+    public static final Link EVENTS_HAPPENING = profile("resources-events-happening");
+    public static final Link ENROLLMENTS_CREATE = profile("resources-enrollments-create");
+
+    private ProfileLinks() {
+    }
+
+    private static Link profile(String section) {
+        return new Link("/docs/index.html#" + section).withRel("profile");
+    }
+}
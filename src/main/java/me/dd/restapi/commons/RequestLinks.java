@@ -0,0 +1,63 @@
+package me.dd.restapi.commons;
+
+import java.util.Objects;
+
+import org.springframework.hateoas.Link;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * 컨트롤러 경로를 상수로 두고, 요청의 기준 URI 는 요청마다 한번만 계산해서 요청 속성에 담아 둔다.
+ * 링크 하나를 만들 때 문자열만 이어 붙이므로 linkTo() 처럼 매핑을 리플렉션으로 찾거나 요청을 다시 해석하지 않는다.
+ */
+public final class RequestLinks {
+
+    public static final String INDEX = "/api/";
+    public static final String EVENTS = "/api/events";
+    public static final String ENROLLMENTS = EVENTS + "/{id}/enrollments";
+
+    private static final String BASE_URI_ATTRIBUTE = RequestLinks.class.getName() + ".BASE_URI";
+
+    private RequestLinks() {
+    }
+
+    /**
+     * 현재 요청의 scheme, host, port, context path. 요청 밖에서는 빈 문자열이라 상대 링크가 만들어진다.
+     */
+    public static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (Objects.isNull(attributes)) {
+            return "";
+        }
+        String baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (Objects.isNull(baseUri)) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+
+    public static Link index() {
+        return new Link(baseUri() + INDEX);
+    }
+
+    public static Link events() {
+        return new Link(baseUri() + EVENTS);
+    }
+
+    public static Link event(Integer id) {
+        return event(baseUri(), id);
+    }
+
+    /**
+     * 요청 스레드 밖(reactive 핸들러의 콜백 등)에서는 요청에서 미리 읽어 둔 기준 URI 로 링크를 만든다.
+     */
+    public static Link event(String baseUri, Integer id) {
+        return new Link(baseUri + EVENTS + "/" + id);
+    }
+
+    public static Link enrollments(Integer eventId) {
+        return new Link(baseUri() + EVENTS + "/" + eventId + "/enrollments");
+    }
+}
@@ -0,0 +1,40 @@
+package me.dd.restapi.commons;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+/**
+ * StreamingResponseBody 로 큰 본문을 주고받는 요청의 비동기 타임아웃.
+ * 기본 타임아웃(spring.mvc.async.request-timeout, 지정하지 않으면 Tomcat 의 30초)으로는 수백만 건을 내보내거나
+ * 가져오는 도중에 끊겨 잘린 200 응답이 나간다. 핸들러가 {@link #extend(HttpServletRequest)} 로 표시한 요청만
+ * 비동기 처리를 시작하기 직전에 따로 정한 타임아웃으로 바꾼다.
+ */
+public class StreamingTimeout implements CallableProcessingInterceptor {
+
+    private static final String ATTRIBUTE = StreamingTimeout.class.getName() + ".EXTENDED";
+
+    private final long timeoutMillis;
+
+    public StreamingTimeout(Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public static void extend(HttpServletRequest request) {
+        request.setAttribute(ATTRIBUTE, Boolean.TRUE);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest
+            && Boolean.TRUE.equals(request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST))) {
+            ((AsyncWebRequest) request).setTimeout(timeoutMillis);
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package me.dd.restapi.config;
 
+import java.time.Clock;
 import java.util.Set;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
@@ -19,13 +20,15 @@ import me.dd.restapi.accounts.AccountService;
 public class AppConfig {
 
     @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
+    public PasswordEncoder passwordEncoder(@Value("${app.security.hashing.threads:4}") int threads,
+        @Value("${app.security.hashing.queue-capacity:100}") int queueCapacity) {
+        return new BoundedPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder(),
+            threads, queueCapacity);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public Clock clock() {
+        return Clock.systemDefaultZone();
     }
 
     @Bean
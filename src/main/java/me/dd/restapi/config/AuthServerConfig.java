@@ -1,6 +1,10 @@
 package me.dd.restapi.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -10,7 +14,10 @@ import org.springframework.security.oauth2.config.annotation.web.configuration.A
 import org.springframework.security.oauth2.config.annotation.web.configuration.EnableAuthorizationServer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerEndpointsConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerSecurityConfigurer;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import me.dd.restapi.accounts.AccountService;
 
 @Configuration
@@ -26,9 +33,25 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
     @Autowired
     AccountService accountService;
 
+    @Autowired
+    TokenStore tokenStore;
+
+    @Autowired
+    ObjectProvider<JwtAccessTokenConverter> jwtAccessTokenConverter;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${app.security.hashing.cache-ttl:PT1M}")
+    Duration clientSecretCacheTtl;
+
+    @Value("${app.security.hashing.cache-size:100}")
+    long clientSecretCacheSize;
+
     @Override
     public void configure(AuthorizationServerSecurityConfigurer security) throws Exception {
-        security.passwordEncoder(passwordEncoder);
+        security.passwordEncoder(new CachingPasswordEncoder(passwordEncoder, clientSecretCacheTtl,
+            clientSecretCacheSize));
     }
 
     @Override
@@ -36,6 +59,7 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
         clients.inMemory()
             .withClient("myApp")
             .authorizedGrantTypes("password", "refresh_token")
+            .scopes("read", "write")
             .secret(this.passwordEncoder.encode("pass"))
             .accessTokenValiditySeconds(600)
             .refreshTokenValiditySeconds(3600);
@@ -44,6 +68,11 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
     @Override
     public void configure(AuthorizationServerEndpointsConfigurer endpoints) throws Exception {
         endpoints.authenticationManager(authenticationManager)
-            .userDetailsService(accountService);
+            .userDetailsService(accountService)
+            .tokenStore(tokenStore)
+            .addInterceptor(new TokenIssueMetricsInterceptor(meterRegistry));
+        jwtAccessTokenConverter.ifAvailable(converter -> endpoints
+            .accessTokenConverter(converter)
+            .reuseRefreshTokens(false));
     }
 }
@@ -0,0 +1,32 @@
+package me.dd.restapi.config;
+
+import java.io.IOException;
+
+import javax.cache.CacheManager;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Hibernate 2차 캐시용 CacheManager. 프로바이더를 직접 만들어서 같은 JVM 의 다른 애플리케이션 컨텍스트와
+     * 캐시를 공유하지 않게 한다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+        @Value("${app.cache.config:classpath:ehcache.xml}") Resource config) throws IOException {
+        return new EhcacheCachingProvider().getCacheManager(config.getURI(), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
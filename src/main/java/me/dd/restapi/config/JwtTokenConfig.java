@@ -0,0 +1,30 @@
+package me.dd.restapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+/**
+ * app.security.token-mode=jwt 인 경우 권한 정보를 담은 서명된 토큰을 발급한다.
+ * 리소스 서버는 저장소를 조회하지 않고 서명만 검증한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.security.token-mode", havingValue = "jwt")
+public class JwtTokenConfig {
+
+    @Bean
+    public JwtAccessTokenConverter jwtAccessTokenConverter(
+        @Value("${app.security.jwt.signing-key}") String signingKey) {
+        JwtAccessTokenConverter converter = new JwtAccessTokenConverter();
+        converter.setSigningKey(signingKey);
+        return converter;
+    }
+
+    @Bean
+    public TokenStore tokenStore(JwtAccessTokenConverter jwtAccessTokenConverter) {
+        return new RevocableJwtTokenStore(jwtAccessTokenConverter);
+    }
+}
@@ -0,0 +1,58 @@
+package me.dd.restapi.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 애플리케이션 고유의 메트릭. HTTP 핸들러, Hikari 풀, Hibernate 통계는 actuator 가 자동으로 등록하고,
+ * 여기서는 {@code @Timed} 를 처리할 aspect 와 비밀번호 해싱 풀의 메트릭을 등록한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 해싱 풀의 대기열 길이, 실행 중인 작업 수, 거절 수, 실패 수와 성공한 작업의 대기를 포함한 처리 시간.
+     */
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordEncoder passwordEncoder) {
+        return registry -> {
+            if (!(passwordEncoder instanceof BoundedPasswordEncoder)) {
+                return;
+            }
+            BoundedPasswordEncoder encoder = (BoundedPasswordEncoder) passwordEncoder;
+            Gauge.builder("security.password-hashing.queue", encoder, BoundedPasswordEncoder::getQueueDepth)
+                .description("Password hashing tasks waiting for a thread")
+                .register(registry);
+            Gauge.builder("security.password-hashing.active", encoder, BoundedPasswordEncoder::getActiveCount)
+                .description("Password hashing tasks running")
+                .register(registry);
+            FunctionCounter.builder("security.password-hashing.rejected", encoder,
+                BoundedPasswordEncoder::getRejectedCount)
+                .description("Password hashing tasks rejected because the queue was full")
+                .register(registry);
+            FunctionCounter.builder("security.password-hashing.failed", encoder,
+                BoundedPasswordEncoder::getFailedCount)
+                .description("Password hashing tasks that threw or were interrupted")
+                .register(registry);
+            FunctionTimer.builder("security.password-hashing", encoder, BoundedPasswordEncoder::getCompletedCount,
+                e -> e.getTotalTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+                .description("Password hashing time including the wait for a thread")
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package me.dd.restapi.config;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
+
+/**
+ * 해싱 풀이 가득 차서 비밀번호 해싱 요청을 받을 수 없을 때 던진다.
+ * 토큰 엔드포인트에서는 OAuth2 오류(temporarily_unavailable)로, 그 외에는 {@link PasswordHashingRejectionFilter} 가
+ * 503 으로 응답한다.
+ */
+public class PasswordHashingRejectedException extends OAuth2Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingRejectedException(String msg, Throwable t) {
+        super(msg, t);
+    }
+
+    @Override
+    public String getOAuth2ErrorCode() {
+        return "temporarily_unavailable";
+    }
+
+    @Override
+    public int getHttpErrorCode() {
+        return HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+}
@@ -0,0 +1,63 @@
+package me.dd.restapi.config;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.*;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+/**
+ * reactive 프로파일의 R2DBC 커넥션 풀. ConnectionFactory 를 빈으로 등록하면 DataSourceAutoConfiguration 이 물러나
+ * JPA 까지 꺼지므로, 풀은 이 설정 안에만 두고 DatabaseClient 와 풀 메트릭(r2dbc.pool.*)만 빈으로 내보낸다.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveDataConfig implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveDataConfig(@Value("${spring.r2dbc.url}") String url,
+        @Value("${spring.r2dbc.username:}") String username,
+        @Value("${spring.r2dbc.password:}") String password,
+        @Value("${spring.r2dbc.pool.initial-size:10}") int initialSize,
+        @Value("${spring.r2dbc.pool.max-size:10}") int maxSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(PASSWORD, password);
+        }
+        this.connectionPool = new ConnectionPool(
+            ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean
+    public MeterBinder r2dbcConnectionPoolMetrics() {
+        return new ConnectionPoolMetrics(connectionPool, "events", Tags.empty());
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,37 @@
+package me.dd.restapi.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.oauth2.config.annotation.web.configuration.EnableResourceServer;
+import org.springframework.security.oauth2.config.annotation.web.configuration.ResourceServerConfigurerAdapter;
+import org.springframework.security.oauth2.config.annotation.web.configurers.ResourceServerSecurityConfigurer;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+
+@Configuration
+@EnableResourceServer
+public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
+
+    @Autowired
+    TokenStore tokenStore;
+
+    @Override
+    public void configure(ResourceServerSecurityConfigurer resources) throws Exception {
+        // 폼 로그인 세션으로도 API 를 사용할 수 있도록 stateless 를 끈다.
+        resources.resourceId("event")
+            .tokenStore(tokenStore)
+            .stateless(false);
+    }
+
+    @Override
+    public void configure(HttpSecurity http) throws Exception {
+        http
+            .requestMatchers()
+            .mvcMatchers("/api/**")
+            .and()
+            .anonymous()
+            .and()
+            .authorizeRequests()
+            .anyRequest().authenticated();
+    }
+}
@@ -0,0 +1,55 @@
+package me.dd.restapi.config;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.oauth2.common.ExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+/**
+ * 토큰을 저장하지 않는 JwtTokenStore 에 리프레시 토큰 폐기 목록만 더한다.
+ * 폐기된 토큰은 만료 시각까지만 보관하므로 목록은 유효한 리프레시 토큰 수 이상으로 커지지 않는다.
+ */
+public class RevocableJwtTokenStore extends JwtTokenStore {
+
+    private final Map<String, Instant> revokedRefreshTokens = new ConcurrentHashMap<>();
+
+    public RevocableJwtTokenStore(JwtAccessTokenConverter jwtAccessTokenConverter) {
+        super(jwtAccessTokenConverter);
+    }
+
+    @Override
+    public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+        if (revokedRefreshTokens.containsKey(tokenValue)) {
+            return null;
+        }
+        return super.readRefreshToken(tokenValue);
+    }
+
+    @Override
+    public void removeRefreshToken(OAuth2RefreshToken token) {
+        super.removeRefreshToken(token);
+        Instant now = Instant.now();
+        revokedRefreshTokens.values().removeIf(expiration -> expiration.isBefore(now));
+        revokedRefreshTokens.put(token.getValue(), expirationOf(token));
+    }
+
+    private Instant expirationOf(OAuth2RefreshToken token) {
+        if (token instanceof ExpiringOAuth2RefreshToken) {
+            Date expiration = ((ExpiringOAuth2RefreshToken) token).getExpiration();
+            if (Objects.nonNull(expiration)) {
+                return expiration.toInstant();
+            }
+        }
+        return Instant.MAX;
+    }
+
+    public int revokedCount() {
+        return revokedRefreshTokens.size();
+    }
+}
@@ -1,6 +1,8 @@
 package me.dd.restapi.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,6 +17,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.provider.token.TokenStore;
 import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import me.dd.restapi.accounts.AccountService;
 
 @Configuration
@@ -27,7 +30,11 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @Bean
+    @ConditionalOnProperty(name = "app.security.token-mode", havingValue = "in-memory", matchIfMissing = true)
     public TokenStore tokenStore() {
         return new InMemoryTokenStore();
     }
@@ -35,7 +42,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     @Bean
     @Override
     public AuthenticationManager authenticationManagerBean() throws Exception {
-        return super.authenticationManagerBean();
+        return new TimedAuthenticationManager(super.authenticationManagerBean(), meterRegistry);
     }
 
     @Override
@@ -58,6 +65,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
             .formLogin()
             .and()
             .authorizeRequests()
+            // health, prometheus 는 스크레이퍼가 인증 없이 읽는다. 나머지 actuator 엔드포인트는 관리자만 본다.
+            .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+            .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
             .mvcMatchers(HttpMethod.GET, "/api/**").authenticated()
             .anyRequest().authenticated();
     }
@@ -0,0 +1,42 @@
+package me.dd.restapi.config;
+
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 인증 시간을 인증 방식과 결과별로 기록한다. password grant 로 토큰을 발급할 때의 사용자 조회와
+ * 비밀번호 검증이 여기에 포함된다. 인증 실패가 아닌 예외(DB 장애 등)도 failure 로 남기고 예외 이름을 태그로 단다.
+ */
+public class TimedAuthenticationManager implements AuthenticationManager {
+
+    private final AuthenticationManager delegate;
+    private final MeterRegistry meterRegistry;
+
+    public TimedAuthenticationManager(AuthenticationManager delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return delegate.authenticate(authentication);
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("security.authentication")
+                .description("Authentication time")
+                .tag("type", authentication.getClass().getSimpleName())
+                .tag("outcome", "none".equals(exception) ? "success" : "failure")
+                .tag("exception", exception)
+                .register(meterRegistry));
+        }
+    }
+}
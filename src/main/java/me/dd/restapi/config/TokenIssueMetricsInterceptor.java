@@ -0,0 +1,54 @@
+package me.dd.restapi.config;
+
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.security.oauth2.provider.endpoint.TokenEndpoint;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * /oauth/token 의 토큰 발급 시간을 grant_type 과 결과별로 기록한다.
+ * 클라이언트 인증에 실패한 요청은 핸들러까지 오지 않으므로 http.server.requests 에만 남는다.
+ */
+public class TokenIssueMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String SAMPLE_ATTRIBUTE = TokenIssueMetricsInterceptor.class.getName() + ".SAMPLE";
+    private static final Set<String> GRANT_TYPES = Set.of("password", "refresh_token");
+
+    private final MeterRegistry meterRegistry;
+
+    public TokenIssueMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod
+            && TokenEndpoint.class.isAssignableFrom(((HandlerMethod) handler).getBeanType())) {
+            request.setAttribute(SAMPLE_ATTRIBUTE, Timer.start(meterRegistry));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+        Exception ex) {
+        Timer.Sample sample = (Timer.Sample) request.getAttribute(SAMPLE_ATTRIBUTE);
+        if (sample == null) {
+            return;
+        }
+        String grantType = request.getParameter("grant_type");
+        sample.stop(Timer.builder("security.token.issue")
+            .description("Access token issue time")
+            .tag("grant_type", grantType != null && GRANT_TYPES.contains(grantType) ? grantType : "other")
+            .tag("outcome", Outcome.forStatus(response.getStatus()).name())
+            .register(meterRegistry));
+    }
+}
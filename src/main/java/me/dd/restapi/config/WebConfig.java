@@ -0,0 +1,22 @@
+package me.dd.restapi.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import me.dd.restapi.commons.StreamingTimeout;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Value("${app.streaming.timeout:PT1H}")
+    Duration streamingTimeout;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new StreamingTimeout(streamingTimeout));
+    }
+}
@@ -0,0 +1,28 @@
+package me.dd.restapi.enrollments;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계정 하나가 이벤트 하나에 한번만 신청할 수 있으므로 (eventId, accountId) 를 키로 쓴다.
+ * 기록은 EnrollmentWriter 가 JDBC 배치로 쓴다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_enrollment_account", columnList = "accountId"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Enrollment {
+
+    @EmbeddedId
+    private EnrollmentId id;
+    private LocalDateTime enrolledAt;
+}
@@ -0,0 +1,84 @@
+package me.dd.restapi.enrollments;
+
+import java.security.Principal;
+import java.util.HashMap;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import me.dd.restapi.commons.ErrorsResource;
+import me.dd.restapi.commons.ProfileLinks;
+import me.dd.restapi.commons.RequestLinks;
+
+@RestController
+@RequestMapping(value = RequestLinks.ENROLLMENTS, produces = MediaTypes.HAL_JSON_VALUE)
+public class EnrollmentController {
+
+    private final EnrollmentService enrollmentService;
+    private final EnrollmentSeats enrollmentSeats;
+
+    public EnrollmentController(EnrollmentService enrollmentService, EnrollmentSeats enrollmentSeats) {
+        this.enrollmentService = enrollmentService;
+        this.enrollmentSeats = enrollmentSeats;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> enroll(@PathVariable Integer id, Principal principal) {
+        EnrollmentResult result = enrollmentService.enroll(id, principal.getName());
+        if (result == EnrollmentResult.ENROLLED) {
+            EnrollmentResource enrollmentResource = enrollmentResource(id);
+            return ResponseEntity.created(RequestLinks.enrollments(id).toUri()).body(enrollmentResource);
+        }
+        if (result == EnrollmentResult.ALREADY_ENROLLED) {
+            return ResponseEntity.ok(enrollmentResource(id));
+        }
+        return failure(result);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<?> cancel(@PathVariable Integer id, Principal principal) {
+        EnrollmentResult result = enrollmentService.cancel(id, principal.getName());
+        if (result == EnrollmentResult.CANCELLED) {
+            return ResponseEntity.noContent().build();
+        }
+        return failure(result);
+    }
+
+    private EnrollmentResource enrollmentResource(Integer id) {
+        EnrollmentResource enrollmentResource = new EnrollmentResource(id, enrollmentSeats.taken(id),
+            enrollmentSeats.limit(id));
+        Link enrollmentsLink = RequestLinks.enrollments(id);
+        enrollmentResource.add(enrollmentsLink.withSelfRel());
+        enrollmentResource.add(RequestLinks.event(id).withRel("event"));
+        enrollmentResource.add(enrollmentsLink.withRel("cancel-enrollment"));
+        enrollmentResource.add(ProfileLinks.ENROLLMENTS_CREATE);
+        return enrollmentResource;
+    }
+
+    private ResponseEntity<?> failure(EnrollmentResult result) {
+        switch (result) {
+            case EVENT_NOT_FOUND:
+            case NOT_ENROLLED:
+                return ResponseEntity.notFound().build();
+            case UNKNOWN_ACCOUNT:
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            case BUSY:
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+            default:
+                Errors errors = new MapBindingResult(new HashMap<>(), "enrollment");
+                errors.reject(result == EnrollmentResult.FULL ? "full" : "closed",
+                    result == EnrollmentResult.FULL ? "event is full" : "event is not open for enrollment");
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorsResource(errors));
+        }
+    }
+}
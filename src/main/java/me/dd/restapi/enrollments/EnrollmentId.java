@@ -0,0 +1,23 @@
+package me.dd.restapi.enrollments;
+
+import java.io.Serializable;
+
+import javax.persistence.Embeddable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer eventId;
+    private Integer accountId;
+}
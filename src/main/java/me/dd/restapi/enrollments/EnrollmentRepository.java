@@ -0,0 +1,8 @@
+package me.dd.restapi.enrollments;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EnrollmentRepository extends JpaRepository<Enrollment, EnrollmentId> {
+
+    long countByIdEventId(Integer eventId);
+}
@@ -0,0 +1,19 @@
+package me.dd.restapi.enrollments;
+
+import org.springframework.hateoas.RepresentationModel;
+
+import lombok.Getter;
+
+@Getter
+public class EnrollmentResource extends RepresentationModel<EnrollmentResource> {
+
+    private final Integer eventId;
+    private final int enrolled;
+    private final int limitOfEnrollment;
+
+    public EnrollmentResource(Integer eventId, int enrolled, int limitOfEnrollment) {
+        this.eventId = eventId;
+        this.enrolled = enrolled;
+        this.limitOfEnrollment = limitOfEnrollment;
+    }
+}
@@ -0,0 +1,6 @@
+package me.dd.restapi.enrollments;
+
+public enum EnrollmentResult {
+
+    ENROLLED, ALREADY_ENROLLED, CANCELLED, NOT_ENROLLED, FULL, CLOSED, EVENT_NOT_FOUND, UNKNOWN_ACCOUNT, BUSY;
+}
@@ -0,0 +1,240 @@
+package me.dd.restapi.enrollments;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import me.dd.restapi.events.EventStatus;
+
+/**
+ * 등록 중(BEGAN_ENROLLMENT)인 이벤트의 좌석 수와 신청자를 메모리에 두고 신청과 취소를 DB 를 거치지 않고 O(1) 로 판정한다.
+ * 좌석은 CAS 로만 가져가므로 잠금 없이도 limitOfEnrollment 를 넘지 않는다. 신청자는 ConcurrentHashMap 에 두어
+ * 같은 계정의 신청과 취소만 같은 버킷에서 차례로 처리되고, 기록 대기열에 넣는 일도 그 안에서 하므로 기록 순서가 뒤바뀌지 않는다.
+ * 애플리케이션이 뜰 때와 이벤트를 처음 조회할 때 DB 의 신청 기록으로 채운다. limitOfEnrollment 가 0 이면 제한이 없다.
+ */
+@Slf4j
+@Component
+public class EnrollmentSeats {
+
+    private static final String EVENT_SQL = "select event_status, limit_of_enrollment from event where id = ?";
+    private static final String HOLDERS_SQL = "select account_id from enrollment where event_id = ?";
+    private static final String OPEN_EVENTS_SQL = "select e.id, e.limit_of_enrollment, en.account_id"
+        + " from event e left join enrollment en on en.event_id = e.id where e.event_status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentMap<Integer, Seats> seats = new ConcurrentHashMap<>();
+
+    public EnrollmentSeats(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 좌석을 하나 가져간다. journal 은 좌석을 가져간 뒤 같은 계정의 다른 요청보다 먼저 실행되며, false 를 돌려주면 좌석을 되돌린다.
+     */
+    public EnrollmentResult enroll(Integer eventId, Integer accountId, BooleanSupplier journal) {
+        Seats seats = this.seats.get(eventId);
+        if (Objects.isNull(seats)) {
+            EnrollmentResult result = load(eventId);
+            if (Objects.nonNull(result)) {
+                return result;
+            }
+            seats = this.seats.get(eventId);
+        }
+        if (!seats.open) {
+            return EnrollmentResult.CLOSED;
+        }
+        if (seats.isFull() && !seats.holders.containsKey(accountId)) {
+            return EnrollmentResult.FULL;
+        }
+
+        Seats target = seats;
+        EnrollmentResult[] result = new EnrollmentResult[1];
+        seats.holders.compute(accountId, (id, holder) -> {
+            if (Objects.nonNull(holder)) {
+                result[0] = EnrollmentResult.ALREADY_ENROLLED;
+                return holder;
+            }
+            // 확인한 뒤 update() 가 등록을 닫았을 수 있으므로 좌석을 가져가기 직전에 다시 본다.
+            if (!target.open) {
+                result[0] = EnrollmentResult.CLOSED;
+                return null;
+            }
+            if (!target.tryTake()) {
+                result[0] = EnrollmentResult.FULL;
+                return null;
+            }
+            if (!journal.getAsBoolean()) {
+                target.taken.decrementAndGet();
+                result[0] = EnrollmentResult.BUSY;
+                return null;
+            }
+            result[0] = EnrollmentResult.ENROLLED;
+            return Boolean.TRUE;
+        });
+        return result[0];
+    }
+
+    /**
+     * 좌석을 돌려준다. journal 이 false 를 돌려주면 신청을 그대로 둔다.
+     */
+    public EnrollmentResult cancel(Integer eventId, Integer accountId, BooleanSupplier journal) {
+        Seats seats = this.seats.get(eventId);
+        if (Objects.isNull(seats)) {
+            EnrollmentResult result = load(eventId);
+            if (Objects.nonNull(result)) {
+                return result;
+            }
+            seats = this.seats.get(eventId);
+        }
+        if (!seats.open) {
+            return EnrollmentResult.CLOSED;
+        }
+
+        Seats target = seats;
+        EnrollmentResult[] result = {EnrollmentResult.NOT_ENROLLED};
+        seats.holders.computeIfPresent(accountId, (id, holder) -> {
+            if (!target.open) {
+                result[0] = EnrollmentResult.CLOSED;
+                return holder;
+            }
+            if (!journal.getAsBoolean()) {
+                result[0] = EnrollmentResult.BUSY;
+                return holder;
+            }
+            target.taken.decrementAndGet();
+            result[0] = EnrollmentResult.CANCELLED;
+            return null;
+        });
+        return result[0];
+    }
+
+    /**
+     * 기록하지 못한 신청을 메모리에서도 지운다.
+     */
+    public void forget(Integer eventId, Integer accountId) {
+        Seats seats = this.seats.get(eventId);
+        if (Objects.nonNull(seats) && Objects.nonNull(seats.holders.remove(accountId))) {
+            seats.taken.decrementAndGet();
+        }
+    }
+
+    /**
+     * 취소를 기록하지 못해 DB 에 남은 신청을 메모리에도 되돌린다. 그 사이 좌석이 다 찼더라도 DB 와 맞추기 위해 되돌린다.
+     */
+    public void restore(Integer eventId, Integer accountId) {
+        Seats seats = this.seats.get(eventId);
+        if (Objects.nonNull(seats) && Objects.isNull(seats.holders.putIfAbsent(accountId, Boolean.TRUE))) {
+            seats.taken.incrementAndGet();
+        }
+    }
+
+    /**
+     * 이벤트의 상태나 좌석 수가 바뀌면 호출한다. 좌석 수를 줄여 이미 넘친 경우 새 신청만 막는다.
+     * 등록이 끝나면 신청자를 들고 있을 필요가 없으므로 지우고, 다시 열리면 처음 요청 때 DB 에서 읽는다.
+     */
+    public void update(Integer eventId, EventStatus eventStatus, int limitOfEnrollment) {
+        Seats seats = this.seats.get(eventId);
+        if (Objects.isNull(seats)) {
+            return;
+        }
+        seats.limit = limitOfEnrollment;
+        seats.open = eventStatus == EventStatus.BEGAN_ENROLLMENT;
+        if (!seats.open) {
+            this.seats.remove(eventId, seats);
+        }
+    }
+
+    public int taken(Integer eventId) {
+        Seats seats = this.seats.get(eventId);
+        return Objects.isNull(seats) ? 0 : seats.taken.get();
+    }
+
+    public int limit(Integer eventId) {
+        Seats seats = this.seats.get(eventId);
+        return Objects.isNull(seats) ? 0 : seats.limit;
+    }
+
+    /**
+     * 등록 중인 이벤트의 신청 기록을 한번에 읽어 좌석 수를 맞춘다. 이미 요청을 받아 올라온 이벤트는 건드리지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        Map<Integer, Seats> loaded = new HashMap<>();
+        jdbcTemplate.query(OPEN_EVENTS_SQL, rs -> {
+            Seats seats = loaded.computeIfAbsent(rs.getInt(1), id -> new Seats(0));
+            seats.limit = rs.getInt(2);
+            int accountId = rs.getInt(3);
+            if (!rs.wasNull() && Objects.isNull(seats.holders.put(accountId, Boolean.TRUE))) {
+                seats.taken.incrementAndGet();
+            }
+        }, EventStatus.BEGAN_ENROLLMENT.name());
+        loaded.forEach((eventId, seats) -> {
+            if (seats.isFull() && seats.taken.get() > seats.limit) {
+                log.warn("Event {} has {} enrollments over its limit of {}", eventId, seats.taken.get(), seats.limit);
+            }
+            this.seats.putIfAbsent(eventId, seats);
+        });
+    }
+
+    private EnrollmentResult load(Integer eventId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(EVENT_SQL, eventId);
+        if (rows.isEmpty()) {
+            return EnrollmentResult.EVENT_NOT_FOUND;
+        }
+        Map<String, Object> row = rows.get(0);
+        if (!EventStatus.BEGAN_ENROLLMENT.name().equals(row.get("event_status"))) {
+            return EnrollmentResult.CLOSED;
+        }
+        int limit = ((Number) row.get("limit_of_enrollment")).intValue();
+        seats.computeIfAbsent(eventId, id -> {
+            Seats seats = new Seats(limit);
+            jdbcTemplate.queryForList(HOLDERS_SQL, Integer.class, id).forEach(accountId -> {
+                seats.holders.put(accountId, Boolean.TRUE);
+                seats.taken.incrementAndGet();
+            });
+            return seats;
+        });
+        return null;
+    }
+
+    private static final class Seats {
+
+        private final AtomicInteger taken = new AtomicInteger();
+        private final ConcurrentMap<Integer, Boolean> holders = new ConcurrentHashMap<>();
+        private volatile int limit;
+        private volatile boolean open = true;
+
+        private Seats(int limit) {
+            this.limit = limit;
+        }
+
+        private boolean isFull() {
+            int limit = this.limit;
+            return limit > 0 && taken.get() >= limit;
+        }
+
+        private boolean tryTake() {
+            while (true) {
+                int current = taken.get();
+                int limit = this.limit;
+                if (limit > 0 && current >= limit) {
+                    return false;
+                }
+                if (taken.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package me.dd.restapi.enrollments;
+
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import me.dd.restapi.accounts.AccountRepository;
+import me.dd.restapi.accounts.UserDetailsCache;
+
+/**
+ * 좌석 판정은 EnrollmentSeats 가, 기록은 EnrollmentWriter 가 한다. 요청 경로에서 DB 를 읽는 일은
+ * 계정 id 를 처음 찾을 때와 이벤트를 처음 신청받을 때뿐이다.
+ */
+@Service
+public class EnrollmentService {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EnrollmentSeats enrollmentSeats;
+
+    @Autowired
+    private EnrollmentWriter enrollmentWriter;
+
+    private final Cache<String, Integer> accountIds = Caffeine.newBuilder()
+        .maximumSize(10_000)
+        .build();
+
+    public EnrollmentResult enroll(Integer eventId, String email) {
+        Integer accountId = accountId(email);
+        if (Objects.isNull(accountId)) {
+            return EnrollmentResult.UNKNOWN_ACCOUNT;
+        }
+        return enrollmentSeats.enroll(eventId, accountId, () -> enrollmentWriter.enroll(eventId, accountId));
+    }
+
+    public EnrollmentResult cancel(Integer eventId, String email) {
+        Integer accountId = accountId(email);
+        if (Objects.isNull(accountId)) {
+            return EnrollmentResult.UNKNOWN_ACCOUNT;
+        }
+        return enrollmentSeats.cancel(eventId, accountId, () -> enrollmentWriter.cancel(eventId, accountId));
+    }
+
+    private Integer accountId(String email) {
+        return accountIds.get(UserDetailsCache.normalize(email),
+            normalized -> accountRepository.findIdByEmail(normalized).orElse(null));
+    }
+}
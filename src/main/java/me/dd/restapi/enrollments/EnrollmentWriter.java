@@ -0,0 +1,193 @@
+package me.dd.restapi.enrollments;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 신청과 취소를 크기가 정해진 대기열에 받아 쓰기 스레드 하나가 모아서 JDBC 배치로 쓴다. 요청 스레드는 DB 를 기다리지 않는다.
+ * 대기열이 차면 받지 않으므로 호출하는 쪽이 좌석을 되돌린다. 같은 종류의 명령이 이어지는 구간을 한 트랜잭션의 배치로 쓰고,
+ * 실패하면 한 건씩 다시 쓴다. 그래도 쓰지 못한 신청은 좌석에서도 지우고, 쓰지 못한 취소는 좌석에 되돌린다.
+ * 종료할 때는 대기열을 비운 뒤 멈추지만, 프로세스가 갑자기 죽으면 대기 중이던 기록은 잃는다.
+ */
+@Slf4j
+@Component
+public class EnrollmentWriter implements MeterBinder, DisposableBean {
+
+    private static final String INSERT_SQL = "insert into enrollment (event_id, account_id, enrolled_at)"
+        + " values (?, ?, ?)";
+    private static final String DELETE_SQL = "delete from enrollment where event_id = ? and account_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EnrollmentSeats enrollmentSeats;
+    private final BlockingQueue<Command> queue;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ExecutorService executor;
+    private final int batchSize;
+    private volatile boolean running = true;
+
+    public EnrollmentWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+        EnrollmentSeats enrollmentSeats,
+        @Value("${app.enrollments.writer.queue-capacity:10000}") int queueCapacity,
+        @Value("${app.enrollments.writer.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enrollmentSeats = enrollmentSeats;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("enrollment-writer-"));
+        this.executor.execute(this::run);
+    }
+
+    public boolean enroll(Integer eventId, Integer accountId) {
+        return offer(new Command(true, eventId, accountId, LocalDateTime.now()));
+    }
+
+    public boolean cancel(Integer eventId, Integer accountId) {
+        return offer(new Command(false, eventId, accountId, null));
+    }
+
+    /**
+     * 대기열에 있거나 쓰는 중인 명령 수.
+     */
+    public int pending() {
+        return pending.get();
+    }
+
+    private boolean offer(Command command) {
+        if (!running) {
+            return false;
+        }
+        pending.incrementAndGet();
+        if (queue.offer(command)) {
+            return true;
+        }
+        pending.decrementAndGet();
+        return false;
+    }
+
+    private void run() {
+        List<Command> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            Command first;
+            try {
+                first = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                log.error("Failed to write {} enrollment commands", batch.size(), e);
+            } finally {
+                pending.addAndGet(-batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Command> batch) {
+        int start = 0;
+        for (int i = 1; i <= batch.size(); i++) {
+            if (i == batch.size() || batch.get(i).enroll != batch.get(start).enroll) {
+                writeRun(batch.subList(start, i));
+                start = i;
+            }
+        }
+    }
+
+    private void writeRun(List<Command> run) {
+        String sql = run.get(0).enroll ? INSERT_SQL : DELETE_SQL;
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(sql, run, run.size(), (ps, command) -> command.bind(ps)));
+        } catch (DataAccessException e) {
+            run.forEach(this::writeOne);
+        }
+    }
+
+    private void writeOne(Command command) {
+        try {
+            jdbcTemplate.update(command.enroll ? INSERT_SQL : DELETE_SQL, command::bind);
+        } catch (DuplicateKeyException e) {
+            // 이미 기록된 신청
+        } catch (DataAccessException e) {
+            log.warn("Failed to write enrollment of account {} to event {}", command.accountId, command.eventId, e);
+            if (command.enroll) {
+                enrollmentSeats.forget(command.eventId, command.accountId);
+            } else {
+                enrollmentSeats.restore(command.eventId, command.accountId);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("enrollments.writer.pending", pending, AtomicInteger::get)
+            .description("Enrollment commands waiting to be written")
+            .register(registry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class Command {
+
+        private final boolean enroll;
+        private final Integer eventId;
+        private final Integer accountId;
+        private final LocalDateTime enrolledAt;
+
+        private Command(boolean enroll, Integer eventId, Integer accountId, LocalDateTime enrolledAt) {
+            this.enroll = enroll;
+            this.eventId = eventId;
+            this.accountId = accountId;
+            this.enrolledAt = enrolledAt;
+        }
+
+        private void bind(PreparedStatement ps) throws SQLException {
+            ps.setInt(1, eventId);
+            ps.setInt(2, accountId);
+            if (enroll) {
+                ps.setTimestamp(3, Timestamp.valueOf(enrolledAt));
+            }
+        }
+    }
+}
@@ -2,14 +2,25 @@ package me.dd.restapi.events;
 
 import java.time.LocalDateTime;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Version;
 
-import org.springframework.hateoas.RepresentationModel;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,10 +37,19 @@ import me.dd.restapi.accounts.Account;
 @Setter
 @EqualsAndHashCode(of = "id")
 @Entity
-public class Event extends RepresentationModel<Event> {
+@Table(indexes = {
+    @Index(name = "idx_event_status_begin_event", columnList = "eventStatus, beginEventDateTime"),
+    @Index(name = "idx_event_status_begin_enrollment", columnList = "eventStatus, beginEnrollmentDateTime"),
+    @Index(name = "idx_event_begin_event", columnList = "beginEventDateTime")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event")
+@DynamicUpdate
+public class Event {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     private Integer id;
     private String name;
     private String description;
@@ -45,8 +65,11 @@ public class Event extends RepresentationModel<Event> {
     private boolean free;
     @Enumerated(EnumType.STRING)
     private EventStatus eventStatus = EventStatus.DRAFT;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Account manager;
+    @Version
+    @JsonIgnore
+    private Long version;
 
     public void update() {
         if (basePrice == 0 && maxPrice == 0) {
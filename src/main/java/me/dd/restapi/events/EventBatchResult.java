@@ -0,0 +1,24 @@
+package me.dd.restapi.events;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.validation.Errors;
+
+import lombok.Getter;
+
+/**
+ * 일괄 생성 결과. 저장된 이벤트와 요청 배열의 인덱스별 검증 오류를 함께 담는다.
+ */
+@Getter
+public class EventBatchResult extends RepresentationModel<EventBatchResult> {
+
+    private final List<EventResource> events;
+    private final Map<Integer, Errors> errors;
+
+    public EventBatchResult(List<EventResource> events, Map<Integer, Errors> errors) {
+        this.events = events;
+        this.errors = errors;
+    }
+}
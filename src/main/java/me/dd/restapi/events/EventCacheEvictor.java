@@ -0,0 +1,28 @@
+package me.dd.restapi.events;
+
+import java.util.Collection;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA 를 거치지 않고 JDBC 로 event 테이블에 쓴 뒤 2차 캐시를 맞춘다.
+ * 이런 쓰기는 Hibernate 가 알지 못하므로 바뀐 이벤트를 엔티티 캐시에서 빼고, 캐시된 조회 결과 목록도 버린다.
+ */
+@Component
+public class EventCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EventCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void evict(Collection<Integer> ids) {
+        Cache cache = entityManagerFactory.getCache();
+        ids.forEach(id -> cache.evict(Event.class, id));
+        cache.unwrap(org.hibernate.Cache.class).evictDefaultQueryRegion();
+    }
+}
@@ -1,43 +1,99 @@
 package me.dd.restapi.events;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
-
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import javax.validation.Validator;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
 
 import me.dd.restapi.commons.ErrorsResource;
+import me.dd.restapi.commons.JsonMergePatch;
+import me.dd.restapi.commons.ProfileLinks;
+import me.dd.restapi.commons.RequestLinks;
+import me.dd.restapi.commons.StreamingTimeout;
+import me.dd.restapi.enrollments.EnrollmentSeats;
 
 @RestController
-@RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_VALUE)
+@RequestMapping(value = RequestLinks.EVENTS, produces = MediaTypes.HAL_JSON_VALUE)
 public class EventController {
 
+    private static final int CACHED_PAGES = 3;
+
     private final EventRepository eventRepository;
-    private final ModelMapper modelMapper;
+    private final EventMapper eventMapper;
     private final EventValidator eventValidator;
+    private final EventCountEstimator eventCountEstimator;
+    private final EventIntervalIndex eventIntervalIndex;
+    private final EventExporter eventExporter;
+    private final EventImporter eventImporter;
+    private final EventPatcher eventPatcher;
+    private final EnrollmentSeats enrollmentSeats;
+    private final EventTransitionScheduler eventTransitionScheduler;
+    private final SpringValidatorAdapter beanValidator;
+    private final int maxBatchSize;
 
-    public EventController(EventRepository eventRepository, ModelMapper modelMapper,
-        EventValidator eventValidator) {
+    public EventController(EventRepository eventRepository, EventMapper eventMapper,
+        EventValidator eventValidator, EventCountEstimator eventCountEstimator,
+        EventIntervalIndex eventIntervalIndex, EventExporter eventExporter, EventImporter eventImporter,
+        EventPatcher eventPatcher, EnrollmentSeats enrollmentSeats,
+        EventTransitionScheduler eventTransitionScheduler, Validator beanValidator,
+        @Value("${app.events.batch.max-size:1000}") int maxBatchSize) {
         this.eventRepository = eventRepository;
-        this.modelMapper = modelMapper;
+        this.eventMapper = eventMapper;
         this.eventValidator = eventValidator;
+        this.eventCountEstimator = eventCountEstimator;
+        this.eventIntervalIndex = eventIntervalIndex;
+        this.eventExporter = eventExporter;
+        this.eventImporter = eventImporter;
+        this.eventPatcher = eventPatcher;
+        this.enrollmentSeats = enrollmentSeats;
+        this.eventTransitionScheduler = eventTransitionScheduler;
+        this.beanValidator = new SpringValidatorAdapter(beanValidator);
+        this.maxBatchSize = maxBatchSize;
     }
 
     @PostMapping
@@ -51,14 +107,65 @@ public class EventController {
             return createBadRequest(bindingResult);
         }
 
-        Event event = modelMapper.map(eventDto, Event.class);
-        event.update();
+        Event event = eventMapper.toEvent(eventDto);
         Event newEvent = eventRepository.save(event);
-        WebMvcLinkBuilder linkBuilder = linkTo(EventController.class).slash(newEvent.getId());
-        newEvent.add(linkTo(EventController.class).withRel("query-events"));
-        newEvent.add(linkBuilder.withSelfRel());
-        newEvent.add(linkBuilder.withRel("update-event"));
-        return ResponseEntity.created(linkBuilder.toUri()).body(newEvent);
+        eventIntervalIndex.put(newEvent);
+        eventTransitionScheduler.schedule(newEvent);
+        Link eventLink = RequestLinks.event(newEvent.getId());
+        EventResource eventResource = new EventResource(EventView.of(newEvent));
+        eventResource.add(RequestLinks.events().withRel("query-events"));
+        eventResource.add(eventLink.withRel("update-event"));
+        return ResponseEntity.created(eventLink.toUri()).eTag(EventETags.of(newEvent.getVersion())).body(eventResource);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity createEvents(@RequestBody List<EventDto> eventDtos) {
+        if (eventDtos.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        // 한 트랜잭션에 담을 수 있는 만큼만 받는다. 더 많은 이벤트는 /import 로 나눠 커밋한다.
+        if (eventDtos.size() > maxBatchSize) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        List<Event> events = new ArrayList<>();
+        Map<Integer, Errors> errors = new TreeMap<>();
+        for (int i = 0; i < eventDtos.size(); i++) {
+            EventDto eventDto = eventDtos.get(i);
+            Errors itemErrors = new BeanPropertyBindingResult(eventDto, "eventDto");
+            beanValidator.validate(eventDto, itemErrors);
+            if (!itemErrors.hasErrors()) {
+                eventValidator.validate(eventDto, itemErrors);
+            }
+            if (itemErrors.hasErrors()) {
+                errors.put(i, itemErrors);
+                continue;
+            }
+            events.add(eventMapper.toEvent(eventDto));
+        }
+
+        List<Event> savedEvents = this.eventRepository.saveAll(events);
+        savedEvents.forEach(eventIntervalIndex::put);
+        savedEvents.forEach(eventTransitionScheduler::schedule);
+        List<EventResource> eventResources = savedEvents.stream()
+            .map(e -> new EventResource(EventView.of(e)))
+            .collect(Collectors.toList());
+        EventBatchResult result = new EventBatchResult(eventResources, errors);
+        result.add(RequestLinks.events().withRel("query-events"));
+        if (errors.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(result);
+        }
+        if (eventResources.isEmpty()) {
+            return ResponseEntity.badRequest().body(result);
+        }
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(result);
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> importEvents(HttpServletRequest request) {
+        StreamingTimeout.extend(request);
+        return ResponseEntity.ok()
+            .contentType(EventExportFormat.NDJSON.getMediaType())
+            .body(outputStream -> eventImporter.importEvents(request.getInputStream(), outputStream));
     }
 
     private ResponseEntity<ErrorsResource> createBadRequest(BindingResult bindingResult) {
@@ -66,36 +173,272 @@ public class EventController {
     }
 
     @GetMapping
-    public ResponseEntity queryEvents(Pageable pageable, PagedResourcesAssembler<Event> assembler) {
-        Page<Event> events = this.eventRepository.findAll(pageable);
-        var pagedResources = assembler.toModel(events, e-> new EventResource(e));
-        pagedResources.add(new Link("/docs/index.html#resources-query-list").withRel("profile"));
+    public ResponseEntity queryEvents(EventSearchCondition condition, Pageable pageable,
+        PagedResourcesAssembler<Event> assembler) {
+        Page<Event> events;
+        if (!condition.isEmpty()) {
+            events = this.eventRepository.findAll(EventSpecifications.of(condition), pageable);
+        } else if (pageable.getPageNumber() < CACHED_PAGES) {
+            events = this.eventRepository.findAllCached(pageable);
+        } else {
+            events = this.eventRepository.findAll(pageable);
+        }
+        var pagedResources = assembler.toModel(events, e-> new EventResource(EventView.of(e)));
+        pagedResources.add(ProfileLinks.QUERY_LIST);
+        return ResponseEntity.ok(pagedResources);
+    }
+
+    @GetMapping(params = "fields")
+    public ResponseEntity queryEventFields(EventSearchCondition condition, @RequestParam String fields,
+        Pageable pageable, PagedResourcesAssembler<EventFields> assembler) {
+        Set<String> selectedFields;
+        try {
+            selectedFields = EventFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        Page<EventFields> events = this.eventRepository.findFields(EventSpecifications.of(condition),
+            selectedFields, pageable);
+        var pagedResources = assembler.toModel(events, e -> new EventFieldsResource(e));
+        pagedResources.add(ProfileLinks.QUERY_LIST);
         return ResponseEntity.ok(pagedResources);
     }
 
+    @GetMapping(params = "slice=true")
+    public ResponseEntity queryEventSlice(Pageable pageable,
+        @RequestParam(defaultValue = "false") boolean total) {
+        Slice<Event> events = this.eventRepository.findSlice(pageable);
+        List<EventResource> eventResources = events.stream()
+            .map(e -> new EventResource(EventView.of(e)))
+            .collect(Collectors.toList());
+        Long totalElements = total ? this.eventCountEstimator.estimate() : null;
+        var metadata = new EventSliceModel.SliceMetadata(events.getSize(), events.getNumber(),
+            events.hasNext(), totalElements);
+        var sliceResources = new EventSliceModel(eventResources, metadata,
+            new Link(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        if (events.hasNext()) {
+            sliceResources.add(pageLink(events.getNumber() + 1).withRel(IanaLinkRelations.NEXT));
+        }
+        if (events.hasPrevious()) {
+            sliceResources.add(pageLink(events.getNumber() - 1).withRel(IanaLinkRelations.PREV));
+        }
+        sliceResources.add(ProfileLinks.QUERY_LIST);
+        return ResponseEntity.ok(sliceResources);
+    }
+
+    private Link pageLink(int page) {
+        return new Link(ServletUriComponentsBuilder.fromCurrentRequest()
+            .replaceQueryParam("page", page)
+            .toUriString());
+    }
+
+    @GetMapping(params = "after")
+    public ResponseEntity queryEventsAfter(@RequestParam String after, Pageable pageable) {
+        return queryEventsBySeek(after, false, pageable);
+    }
+
+    @GetMapping(params = "before")
+    public ResponseEntity queryEventsBefore(@RequestParam String before, Pageable pageable) {
+        return queryEventsBySeek(before, true, pageable);
+    }
+
+    private ResponseEntity queryEventsBySeek(String token, boolean backward, Pageable pageable) {
+        EventCursor cursor;
+        try {
+            cursor = token.isEmpty() ? EventCursor.first(pageable.getSort()) : EventCursor.decode(token);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        int size = pageable.getPageSize();
+        List<Event> rows = this.eventRepository.findBySeek(cursor, backward, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<Event> events = new ArrayList<>(rows.subList(0, Math.min(size, rows.size())));
+        if (backward) {
+            Collections.reverse(events);
+        }
+
+        List<EventResource> eventResources = events.stream()
+            .map(e -> new EventResource(EventView.of(e)))
+            .collect(Collectors.toList());
+        var cursorResources = new CollectionModel<>(eventResources,
+            new Link(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        if (!events.isEmpty()) {
+            if (backward ? cursor.hasPosition() : hasMore) {
+                cursorResources.add(cursorLink("after", cursor.at(events.get(events.size() - 1)), size)
+                    .withRel(IanaLinkRelations.NEXT));
+            }
+            if (backward ? hasMore : cursor.hasPosition()) {
+                cursorResources.add(cursorLink("before", cursor.at(events.get(0)), size)
+                    .withRel(IanaLinkRelations.PREV));
+            }
+        }
+        cursorResources.add(ProfileLinks.QUERY_LIST);
+        return ResponseEntity.ok(cursorResources);
+    }
+
+    private Link cursorLink(String param, EventCursor cursor, int size) {
+        return new Link(ServletUriComponentsBuilder.fromCurrentRequest()
+            .replaceQueryParam("after")
+            .replaceQueryParam("before")
+            .replaceQueryParam("sort")
+            .replaceQueryParam("page")
+            .replaceQueryParam(param, cursor.encode())
+            .replaceQueryParam("size", size)
+            .toUriString());
+    }
+
+    @GetMapping("/enrolling")
+    public ResponseEntity queryEnrollingEvents(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        LocalDateTime point = Objects.isNull(at) ? LocalDateTime.now() : at;
+        return ResponseEntity.ok(summaryResources(eventIntervalIndex.findEnrollingAt(point),
+            ProfileLinks.EVENTS_ENROLLING));
+    }
+
+    @GetMapping("/happening")
+    public ResponseEntity queryHappeningEvents(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime begin = Objects.isNull(from) ? LocalDateTime.now() : from;
+        LocalDateTime end = Objects.isNull(to) ? begin : to;
+        if (end.isBefore(begin)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(summaryResources(eventIntervalIndex.findHappeningBetween(begin, end),
+            ProfileLinks.EVENTS_HAPPENING));
+    }
+
+    private CollectionModel<EntityModel<EventSummary>> summaryResources(List<EventSummary> summaries,
+        Link profile) {
+        List<EntityModel<EventSummary>> summaryResources = summaries.stream()
+            .map(s -> new EntityModel<>(s, RequestLinks.event(s.getId()).withSelfRel()))
+            .collect(Collectors.toList());
+        return new CollectionModel<>(summaryResources,
+            new Link(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel(),
+            profile);
+    }
+
+    @GetMapping(value = "/export", produces = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<StreamingResponseBody> exportEvents(EventSearchCondition condition,
+        @RequestParam(defaultValue = "ndjson") String format, HttpServletRequest request) {
+        EventExportFormat exportFormat;
+        try {
+            exportFormat = EventExportFormat.of(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingTimeout.extend(request);
+        return ResponseEntity.ok()
+            .contentType(exportFormat.getMediaType())
+            .body(outputStream -> eventExporter.export(condition, exportFormat, outputStream));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity getEvent(@PathVariable Integer id) {
+    public ResponseEntity getEvent(@PathVariable Integer id, @RequestParam(required = false) String fields,
+        WebRequest webRequest) {
+        Set<String> selectedFields = null;
+        if (Objects.nonNull(fields)) {
+            try {
+                selectedFields = EventFields.parse(fields);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<Long> version = eventRepository.findVersionById(id);
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            String eTag = Objects.isNull(selectedFields)
+                ? EventETags.of(version.get())
+                : EventETags.of(version.get(), selectedFields);
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+        }
+        if (Objects.nonNull(selectedFields)) {
+            Optional<EventFields> eventFields = eventRepository.findFieldsById(id, selectedFields);
+            if (eventFields.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            EventFieldsResource eventFieldsResource = new EventFieldsResource(eventFields.get());
+            eventFieldsResource.add(ProfileLinks.EVENTS_GET);
+            return ResponseEntity.ok()
+                .eTag(EventETags.of(eventFields.get().getVersion(), selectedFields))
+                .body(eventFieldsResource);
+        }
         Optional<Event> event = eventRepository.findById(id);
         if (event.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        EventResource eventResource = new EventResource(event.get());
-        eventResource.add(new Link("/docs/index.html#resources-events-get").withRel("profile"));
-        return ResponseEntity.ok(eventResource);
+        EventResource eventResource = new EventResource(EventView.of(event.get()));
+        eventResource.add(ProfileLinks.EVENTS_GET);
+        return ResponseEntity.ok().eTag(EventETags.of(event.get().getVersion())).body(eventResource);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity updateEvent(@PathVariable Integer id, @Valid @RequestBody EventDto eventDto) {
+    public ResponseEntity updateEvent(@PathVariable Integer id, @Valid @RequestBody EventDto eventDto,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Optional<Event> event = eventRepository.findById(id);
         if (event.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
         Event persistEvent = event.get();
+        if (ifMatch != null && !EventETags.matches(ifMatch, EventETags.of(persistEvent.getVersion()))) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
         persistEvent.updateEvent(eventDto);
-        Event updatedEvent = eventRepository.save(persistEvent);
-        EventResource eventResource = new EventResource(updatedEvent);
-        eventResource.add(new Link("/docs/index.html#resources-events-put").withRel("profile"));
+        Event updatedEvent;
+        try {
+            updatedEvent = eventRepository.save(persistEvent);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        eventIntervalIndex.put(updatedEvent);
+        eventTransitionScheduler.schedule(updatedEvent);
+        EventResource eventResource = new EventResource(EventView.of(updatedEvent));
+        eventResource.add(ProfileLinks.EVENTS_PUT);
+
+        return ResponseEntity.ok().eTag(EventETags.of(updatedEvent.getVersion())).body(eventResource);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = JsonMergePatch.MEDIA_TYPE_VALUE)
+    public ResponseEntity patchEvent(@PathVariable Integer id, @RequestBody JsonNode patch,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Optional<Event> event = eventRepository.findById(id);
+        if (event.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Event persistEvent = event.get();
+        if (ifMatch != null && !EventETags.matches(ifMatch, EventETags.of(persistEvent.getVersion()))) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        EventDto eventDto;
+        try {
+            eventDto = eventPatcher.merge(persistEvent, patch);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        BindingResult bindingResult = new BeanPropertyBindingResult(eventDto, "eventDto");
+        beanValidator.validate(eventDto, bindingResult);
+        if (bindingResult.hasErrors()) {
+            return createBadRequest(bindingResult);
+        }
+        eventValidator.validate(eventDto, bindingResult);
+        if (bindingResult.hasErrors()) {
+            return createBadRequest(bindingResult);
+        }
+
+        if (!eventPatcher.apply(persistEvent, eventDto)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        eventIntervalIndex.put(persistEvent);
+        eventTransitionScheduler.schedule(persistEvent);
+        enrollmentSeats.update(persistEvent.getId(), persistEvent.getEventStatus(),
+            persistEvent.getLimitOfEnrollment());
+        EventResource eventResource = new EventResource(EventView.of(persistEvent));
+        eventResource.add(ProfileLinks.EVENTS_PATCH);
 
-        return ResponseEntity.ok(eventResource);
+        return ResponseEntity.ok().eTag(EventETags.of(persistEvent.getVersion())).body(eventResource);
     }
 }
@@ -0,0 +1,89 @@
+package me.dd.restapi.events;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 개수의 추정값을 제공한다. PostgreSQL 에서는 플래너 통계(pg_class.reltuples)를 사용하고,
+ * 그 외의 DB 에서는 주기적으로 갱신하는 COUNT 결과를 캐시해서 사용한다.
+ */
+@Component
+public class EventCountEstimator {
+
+    private static final String POSTGRES_ESTIMATE_SQL =
+        "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE relname = 'event'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventRepository eventRepository;
+    private final Duration refreshInterval;
+
+    private volatile Boolean postgres;
+    private volatile Estimate estimate;
+
+    public EventCountEstimator(JdbcTemplate jdbcTemplate, EventRepository eventRepository,
+        @Value("${app.events.count-refresh-interval:PT1M}") Duration refreshInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventRepository = eventRepository;
+        this.refreshInterval = refreshInterval;
+    }
+
+    public long estimate() {
+        Estimate current = this.estimate;
+        Instant now = Instant.now();
+        if (current == null || current.isExpired(now, refreshInterval)) {
+            synchronized (this) {
+                current = this.estimate;
+                if (current == null || current.isExpired(now, refreshInterval)) {
+                    current = new Estimate(load(), now);
+                    this.estimate = current;
+                }
+            }
+        }
+        return current.count;
+    }
+
+    private long load() {
+        if (isPostgres()) {
+            Long reltuples = jdbcTemplate.queryForObject(POSTGRES_ESTIMATE_SQL, Long.class);
+            // ANALYZE 가 한 번도 돌지 않은 테이블은 -1 또는 0 을 돌려준다.
+            if (Objects.nonNull(reltuples) && reltuples > 0) {
+                return reltuples;
+            }
+        }
+        return eventRepository.count();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    "getDatabaseProductName");
+                postgres = "PostgreSQL".equals(product);
+            } catch (MetaDataAccessException e) {
+                postgres = false;
+            }
+        }
+        return postgres;
+    }
+
+    private static class Estimate {
+        private final long count;
+        private final Instant loadedAt;
+
+        private Estimate(long count, Instant loadedAt) {
+            this.count = count;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(Instant now, Duration refreshInterval) {
+            return loadedAt.plus(refreshInterval).isBefore(now);
+        }
+    }
+}
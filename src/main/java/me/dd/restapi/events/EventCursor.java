@@ -0,0 +1,83 @@
+package me.dd.restapi.events;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+
+import lombok.Getter;
+
+/**
+ * 커서 기반 페이징의 위치를 나타낸다. (정렬 키, 정렬 방향, 정렬 키 값, id)를 담고 있으며
+ * 클라이언트에게는 불투명한 문자열로 인코딩되어 전달된다.
+ */
+@Getter
+public class EventCursor {
+
+    private static final Set<String> SORT_KEYS = Set.of("id", "name");
+    private static final String DEFAULT_SORT_KEY = "id";
+    private static final String DELIMITER = ":";
+
+    private final String property;
+    private final Sort.Direction direction;
+    private final Comparable<?> value;
+    private final Integer id;
+
+    private EventCursor(String property, Sort.Direction direction, Comparable<?> value, Integer id) {
+        this.property = property;
+        this.direction = direction;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static EventCursor first(Sort sort) {
+        Sort.Order order = sort.stream()
+            .findFirst()
+            .orElse(Sort.Order.asc(DEFAULT_SORT_KEY));
+        if (!SORT_KEYS.contains(order.getProperty())) {
+            throw new IllegalArgumentException("Unsupported sort key: " + order.getProperty());
+        }
+        return new EventCursor(order.getProperty(), order.getDirection(), null, null);
+    }
+
+    public static EventCursor decode(String token) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, e);
+        }
+        String[] parts = decoded.split(DELIMITER, 4);
+        if (parts.length != 4 || !SORT_KEYS.contains(parts[0])) {
+            throw new IllegalArgumentException("Malformed cursor: " + token);
+        }
+        Sort.Direction direction = Sort.Direction.fromString(parts[1]);
+        Integer id = Integer.valueOf(parts[2]);
+        return new EventCursor(parts[0], direction, parseValue(parts[0], parts[3]), id);
+    }
+
+    private static Comparable<?> parseValue(String property, String value) {
+        if ("id".equals(property)) {
+            return Integer.valueOf(value);
+        }
+        return value;
+    }
+
+    public EventCursor at(Event event) {
+        Comparable<?> value = "id".equals(property) ? event.getId() : event.getName();
+        return new EventCursor(property, direction, value, event.getId());
+    }
+
+    public boolean hasPosition() {
+        return Objects.nonNull(id);
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, property, direction.name(), String.valueOf(id),
+            String.valueOf(value));
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
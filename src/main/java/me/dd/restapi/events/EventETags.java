@@ -0,0 +1,54 @@
+package me.dd.restapi.events;
+
+import java.util.Set;
+
+/**
+ * 이벤트 version 으로 만든 ETag 와 조건부 요청 헤더 비교. MVC 와 reactive 핸들러가 같이 쓴다.
+ */
+final class EventETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private EventETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * fields 로 고른 표현의 ETag. 본문이 전체 표현과 다르므로 고른 필드 목록(파싱한 순서)을 붙여 구분한다.
+     */
+    static String of(Long version, Set<String> fields) {
+        return "\"" + version + "-" + String.join(".", fields) + "\"";
+    }
+
+    /**
+     * If-Match 비교. 수정 전 확인이므로 약한 ETag 는 일치로 보지 않는다.
+     */
+    static boolean matches(String ifMatch, String eTag) {
+        for (String candidate : ifMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-None-Match 비교. 조회 캐시 확인이므로 약한 ETag 도 일치로 본다.
+     */
+    static boolean notModified(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith(WEAK_PREFIX)) {
+                trimmed = trimmed.substring(WEAK_PREFIX.length());
+            }
+            if (trimmed.equals("*") || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,137 @@
+package me.dd.restapi.events;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 이벤트를 NDJSON 또는 CSV 로 한 행씩 출력한다. 읽기 전용 트랜잭션 안에서 스트림 쿼리를 열고,
+ * 힙에는 JDBC fetch size 만큼의 행만 남도록 읽은 즉시 쓰고 버린다.
+ */
+@Component
+public class EventExporter {
+
+    private static final String[] COLUMNS = {"id", "name", "description", "beginEnrollmentDateTime",
+        "closeEnrollmentDateTime", "beginEventDateTime", "endEventDateTime", "location", "basePrice", "maxPrice",
+        "limitOfEnrollment", "offline", "free", "eventStatus", "manager"};
+
+    private final EventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    public EventExporter(EventRepository eventRepository, ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.events.export.fetch-size:1000}") int fetchSize) {
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    public void export(EventSearchCondition condition, EventExportFormat format, OutputStream outputStream) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Event> events = eventRepository.streamAll(EventSpecifications.of(condition), fetchSize)) {
+                if (format == EventExportFormat.CSV) {
+                    writeCsv(events.iterator(), outputStream);
+                } else {
+                    writeNdjson(events.iterator(), outputStream);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeNdjson(Iterator<Event> events, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+        while (events.hasNext()) {
+            Event event = events.next();
+            generator.writeStartObject();
+            generator.writeNumberField("id", event.getId());
+            generator.writeStringField("name", event.getName());
+            generator.writeStringField("description", event.getDescription());
+            generator.writeStringField("beginEnrollmentDateTime", format(event.getBeginEnrollmentDateTime()));
+            generator.writeStringField("closeEnrollmentDateTime", format(event.getCloseEnrollmentDateTime()));
+            generator.writeStringField("beginEventDateTime", format(event.getBeginEventDateTime()));
+            generator.writeStringField("endEventDateTime", format(event.getEndEventDateTime()));
+            generator.writeStringField("location", event.getLocation());
+            generator.writeNumberField("basePrice", event.getBasePrice());
+            generator.writeNumberField("maxPrice", event.getMaxPrice());
+            generator.writeNumberField("limitOfEnrollment", event.getLimitOfEnrollment());
+            generator.writeBooleanField("offline", event.isOffline());
+            generator.writeBooleanField("free", event.isFree());
+            generator.writeStringField("eventStatus", Objects.toString(event.getEventStatus(), null));
+            if (Objects.nonNull(event.getManager())) {
+                generator.writeNumberField("manager", event.getManager().getId());
+            } else {
+                generator.writeNullField("manager");
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<Event> events, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(String.join(",", COLUMNS));
+        writer.write("\r\n");
+        while (events.hasNext()) {
+            Event event = events.next();
+            writer.write(String.join(",",
+                String.valueOf(event.getId()),
+                csv(event.getName()),
+                csv(event.getDescription()),
+                csv(format(event.getBeginEnrollmentDateTime())),
+                csv(format(event.getCloseEnrollmentDateTime())),
+                csv(format(event.getBeginEventDateTime())),
+                csv(format(event.getEndEventDateTime())),
+                csv(event.getLocation()),
+                String.valueOf(event.getBasePrice()),
+                String.valueOf(event.getMaxPrice()),
+                String.valueOf(event.getLimitOfEnrollment()),
+                String.valueOf(event.isOffline()),
+                String.valueOf(event.isFree()),
+                csv(Objects.toString(event.getEventStatus(), null)),
+                Objects.isNull(event.getManager()) ? "" : String.valueOf(event.getManager().getId())));
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    private String format(LocalDateTime dateTime) {
+        return Objects.isNull(dateTime) ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+    }
+
+    private String csv(String value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+            && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
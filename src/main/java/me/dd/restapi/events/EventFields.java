@@ -0,0 +1,71 @@
+package me.dd.restapi.events;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.Tuple;
+
+import org.springframework.hateoas.server.core.Relation;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Getter;
+
+/**
+ * fields 파라미터로 고른 컬럼만 담은 이벤트. id 는 항상 포함하고, version 은 ETag 를 위해 읽지만 출력하지 않는다.
+ */
+@Getter
+@Relation(collectionRelation = "eventList")
+public class EventFields {
+
+    public static final List<String> SELECTABLE = List.of("name", "description", "beginEnrollmentDateTime",
+        "closeEnrollmentDateTime", "beginEventDateTime", "endEventDateTime", "location", "basePrice", "maxPrice",
+        "limitOfEnrollment", "offline", "free", "eventStatus");
+
+    private final Integer id;
+    @JsonIgnore
+    private final Long version;
+    private final Map<String, Object> values;
+
+    private EventFields(Integer id, Long version, Map<String, Object> values) {
+        this.id = id;
+        this.version = version;
+        this.values = values;
+    }
+
+    public static EventFields of(Tuple tuple, Set<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            values.put(field, tuple.get(field));
+        }
+        return new EventFields(tuple.get("id", Integer.class), tuple.get("version", Long.class), values);
+    }
+
+    /**
+     * "name,eventStatus" 와 같은 목록을 순서를 유지한 채로 읽는다. 고를 수 없는 필드가 있으면 IllegalArgumentException.
+     */
+    public static Set<String> parse(String fields) {
+        Set<String> parsed = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String trimmed = field.trim();
+            if (trimmed.isEmpty() || "id".equals(trimmed)) {
+                continue;
+            }
+            if (!SELECTABLE.contains(trimmed)) {
+                throw new IllegalArgumentException("Unknown field: " + trimmed);
+            }
+            parsed.add(trimmed);
+        }
+        return Collections.unmodifiableSet(parsed);
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getValues() {
+        return values;
+    }
+}
@@ -0,0 +1,14 @@
+package me.dd.restapi.events;
+
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+
+import me.dd.restapi.commons.RequestLinks;
+
+public class EventFieldsResource extends EntityModel<EventFields> {
+
+    public EventFieldsResource(EventFields content, Link... links) {
+        super(content, links);
+        add(RequestLinks.event(content.getId()).withSelfRel());
+    }
+}
@@ -0,0 +1,316 @@
+package me.dd.restapi.events;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.validation.Validator;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * NDJSON 으로 들어온 이벤트를 파싱, 검증, 저장 단계로 나눠 동시에 처리한다.
+ * 파싱은 요청 스레드가 한 줄씩 하고, 검증은 작은 전용 풀에서, 저장은 쓰기 스레드가 JDBC 배치로 한다.
+ * 단계 사이에는 크기가 정해진 대기열을 두어 본문 크기와 상관없이 메모리 사용량이 일정하다.
+ * 거절된 줄은 처리하는 대로 줄 번호와 함께 응답에 쓴다.
+ * 배치 하나는 한 트랜잭션으로 쓰지만 가져오기 전체는 한 트랜잭션이 아니다. 쓰기가 실패하면 이미 커밋된 배치는 남고,
+ * 마지막 줄에 오류와 함께 그때까지 가져온 수를 쓴다. 검증을 통과했지만 쓰지 못한 줄은 거절된 수에 더한다.
+ */
+@Slf4j
+@Component
+public class EventImporter implements DisposableBean {
+
+    private static final String INSERT_SQL = "insert into event (id, name, description,"
+        + " begin_enrollment_date_time, close_enrollment_date_time, begin_event_date_time, end_event_date_time,"
+        + " location, base_price, max_price, limit_of_enrollment, offline, free, event_status, version)"
+        + " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    // Event 의 event_seq 와 같은 pooled-lo 방식으로 nextval 하나당 id 50개를 쓴다.
+    private static final String NEXT_ID_BLOCK_SQL = "select nextval('event_seq')";
+    private static final int ID_BLOCK_SIZE = 50;
+    private static final Event END_OF_INPUT = new Event();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventMapper eventMapper;
+    private final EventValidator eventValidator;
+    private final EventIntervalIndex eventIntervalIndex;
+    private final EventCacheEvictor eventCacheEvictor;
+    private final SpringValidatorAdapter beanValidator;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader eventDtoReader;
+    private final ThreadPoolExecutor validationExecutor;
+    private final ExecutorService writerExecutor;
+    private final int validationPermits;
+    private final int queueCapacity;
+    private final int batchSize;
+
+    public EventImporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+        EventMapper eventMapper, EventValidator eventValidator,
+        EventIntervalIndex eventIntervalIndex, EventCacheEvictor eventCacheEvictor, Validator beanValidator,
+        ObjectMapper objectMapper,
+        @Value("${app.events.import.validation-threads:2}") int validationThreads,
+        @Value("${app.events.import.queue-capacity:2000}") int queueCapacity,
+        @Value("${app.events.import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventMapper = eventMapper;
+        this.eventValidator = eventValidator;
+        this.eventIntervalIndex = eventIntervalIndex;
+        this.eventCacheEvictor = eventCacheEvictor;
+        this.beanValidator = new SpringValidatorAdapter(beanValidator);
+        this.objectMapper = objectMapper;
+        this.eventDtoReader = objectMapper.readerFor(EventDto.class);
+        this.validationExecutor = new ThreadPoolExecutor(validationThreads, validationThreads, 0L,
+            TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+            new CustomizableThreadFactory("event-import-validation-"));
+        this.writerExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("event-import-writer-"));
+        this.validationPermits = validationThreads * 64;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+    }
+
+    public void importEvents(InputStream inputStream, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+        Import current = new Import(generator);
+        Future<?> writer = writerExecutor.submit(() -> write(current));
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        String error = null;
+        try {
+            while ((line = reader.readLine()) != null && !writer.isDone()) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                EventDto eventDto;
+                try {
+                    eventDto = eventDtoReader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    Errors errors = new MapBindingResult(new HashMap<>(), "eventDto");
+                    errors.reject("invalidJson", e.getOriginalMessage());
+                    current.reject(lineNumber, errors);
+                    continue;
+                }
+                int number = lineNumber;
+                current.inFlight.acquire();
+                validationExecutor.execute(() -> {
+                    try {
+                        validate(current, number, eventDto, writer);
+                    } finally {
+                        current.inFlight.release();
+                    }
+                });
+            }
+            current.inFlight.acquire(validationPermits);
+            current.enqueue(END_OF_INPUT, writer);
+            writer.get();
+        } catch (InterruptedException e) {
+            writer.cancel(true);
+            Thread.currentThread().interrupt();
+            error = "Interrupted while importing events";
+        } catch (ExecutionException e) {
+            log.warn("Failed to write imported events after {} events", current.imported.get(), e.getCause());
+            error = "Failed to write imported events: " + e.getCause().getMessage();
+        }
+        current.summarize(error);
+    }
+
+    private void validate(Import current, int lineNumber, EventDto eventDto, Future<?> writer) {
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        Event event = null;
+        try {
+            beanValidator.validate(eventDto, errors);
+            if (!errors.hasErrors()) {
+                eventValidator.validate(eventDto, errors);
+            }
+            if (!errors.hasErrors()) {
+                event = eventMapper.toEvent(eventDto);
+            }
+        } catch (RuntimeException e) {
+            // 검증이나 변환이 던진 예외도 그 줄만 거절하고 나머지 줄은 계속 가져온다.
+            log.warn("Failed to validate imported event at line {}", lineNumber, e);
+            errors = new MapBindingResult(new HashMap<>(), "eventDto");
+            errors.reject("invalidEvent", Objects.toString(e.getMessage(), e.getClass().getSimpleName()));
+        }
+        if (errors.hasErrors()) {
+            current.reject(lineNumber, errors);
+            return;
+        }
+        // 대기열에 넣지 못하거나 쓰지 못하면 summarize 에서 거절된 수로 센다.
+        current.accepted.incrementAndGet();
+        try {
+            current.enqueue(event, writer);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Void write(Import current) throws InterruptedException {
+        List<Event> batch = new ArrayList<>(batchSize);
+        while (true) {
+            Event event = current.queue.take();
+            if (event == END_OF_INPUT) {
+                flush(batch);
+                current.imported.addAndGet(batch.size());
+                return null;
+            }
+            batch.add(event);
+            if (batch.size() == batchSize) {
+                flush(batch);
+                current.imported.addAndGet(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Event> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> insert(batch));
+        batch.forEach(eventIntervalIndex::put);
+        eventCacheEvictor.evict(batch.stream().map(Event::getId).collect(Collectors.toList()));
+    }
+
+    private void insert(List<Event> batch) {
+        int nextId = 0;
+        int remaining = 0;
+        for (Event event : batch) {
+            if (remaining == 0) {
+                nextId = jdbcTemplate.queryForObject(NEXT_ID_BLOCK_SQL, Integer.class);
+                remaining = ID_BLOCK_SIZE;
+            }
+            event.setId(nextId++);
+            event.setVersion(0L);
+            remaining--;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+            ps.setInt(1, event.getId());
+            ps.setString(2, event.getName());
+            ps.setString(3, event.getDescription());
+            ps.setTimestamp(4, timestamp(event.getBeginEnrollmentDateTime()));
+            ps.setTimestamp(5, timestamp(event.getCloseEnrollmentDateTime()));
+            ps.setTimestamp(6, timestamp(event.getBeginEventDateTime()));
+            ps.setTimestamp(7, timestamp(event.getEndEventDateTime()));
+            ps.setString(8, event.getLocation());
+            ps.setInt(9, event.getBasePrice());
+            ps.setInt(10, event.getMaxPrice());
+            ps.setInt(11, event.getLimitOfEnrollment());
+            ps.setBoolean(12, event.isOffline());
+            ps.setBoolean(13, event.isFree());
+            ps.setString(14, event.getEventStatus().name());
+        });
+    }
+
+    private Timestamp timestamp(LocalDateTime dateTime) {
+        return Objects.isNull(dateTime) ? null : Timestamp.valueOf(dateTime);
+    }
+
+    @Override
+    public void destroy() {
+        validationExecutor.shutdownNow();
+        writerExecutor.shutdownNow();
+    }
+
+    private class Import {
+
+        private final JsonGenerator generator;
+        private final BlockingQueue<Event> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final Semaphore inFlight = new Semaphore(validationPermits);
+        private final AtomicInteger rejected = new AtomicInteger();
+        private final AtomicInteger accepted = new AtomicInteger();
+        private final AtomicInteger imported = new AtomicInteger();
+
+        private Import(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        /**
+         * 쓰기 스레드가 실패해서 대기열을 비우지 않는 경우에도 멈추지 않도록 나눠서 기다린다.
+         */
+        private void enqueue(Event event, Future<?> writer) throws InterruptedException {
+            while (!queue.offer(event, 100, TimeUnit.MILLISECONDS)) {
+                if (writer.isDone()) {
+                    return;
+                }
+            }
+        }
+
+        private void reject(int lineNumber, Errors errors) {
+            rejected.incrementAndGet();
+            synchronized (generator) {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("line", lineNumber);
+                    generator.writeFieldName("errors");
+                    generator.writeObject(errors);
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                    generator.flush();
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to write rejected line " + lineNumber, e);
+                }
+            }
+        }
+
+        /**
+         * 마지막 줄. 실패했으면 error 가 붙고, imported 는 그때까지 커밋된 수다.
+         */
+        private void summarize(String error) throws IOException {
+            int written = imported.get();
+            synchronized (generator) {
+                generator.writeStartObject();
+                if (Objects.nonNull(error)) {
+                    generator.writeStringField("error", error);
+                }
+                generator.writeNumberField("imported", written);
+                generator.writeNumberField("rejected", rejected.get() + accepted.get() - written);
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                generator.flush();
+            }
+        }
+    }
+}
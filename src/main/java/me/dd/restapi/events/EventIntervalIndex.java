@@ -0,0 +1,201 @@
+package me.dd.restapi.events;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등록 기간과 이벤트 기간을 시간 버킷으로 나눠 담는 인메모리 구간 인덱스.
+ * 구간은 겹치는 모든 버킷에 등록되고, 조회 시에는 해당 버킷의 후보만 실제 구간과 비교한다.
+ * 버킷 MAX_BUCKETS_PER_INTERVAL 개보다 긴 구간은 버킷에 펼치지 않고 긴 구간 목록에 따로 두어 매 조회의 후보로 본다.
+ * 기간 길이에 제한이 없으므로 수십 년짜리 이벤트 하나가 버킷 수백만 개를 만들며 쓰기 잠금을 오래 잡지 않게 한다.
+ */
+@Component
+public class EventIntervalIndex {
+
+    private static final int MAX_BUCKETS_PER_INTERVAL = 64;
+
+    private final long bucketSeconds;
+    private final Map<Integer, EventSummary> summaries = new HashMap<>();
+    private final NavigableMap<Long, Set<Integer>> enrollmentBuckets = new TreeMap<>();
+    private final NavigableMap<Long, Set<Integer>> eventBuckets = new TreeMap<>();
+    private final Set<Integer> longEnrollments = new HashSet<>();
+    private final Set<Integer> longEvents = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public EventIntervalIndex(@Value("${app.events.interval-index.bucket-size:P1D}") Duration bucketSize) {
+        if (bucketSize.getSeconds() <= 0) {
+            throw new IllegalArgumentException("Bucket size must be at least one second: " + bucketSize);
+        }
+        this.bucketSeconds = bucketSize.getSeconds();
+    }
+
+    public void put(Event event) {
+        put(EventSummary.of(event));
+    }
+
+    /**
+     * 이미 더 새로운 버전이 담겨 있으면 무시한다. 시작 시 적재와 수정 요청이 겹쳐도 최신 상태가 남는다.
+     */
+    public void put(EventSummary summary) {
+        lock.writeLock().lock();
+        try {
+            EventSummary previous = summaries.get(summary.getId());
+            if (previous != null && isNewer(previous, summary)) {
+                return;
+            }
+            if (previous != null) {
+                unlink(previous);
+            }
+            summaries.put(summary.getId(), summary);
+            link(enrollmentBuckets, longEnrollments, summary.getId(), summary.getBeginEnrollmentDateTime(),
+                summary.getCloseEnrollmentDateTime());
+            link(eventBuckets, longEvents, summary.getId(), summary.getBeginEventDateTime(),
+                summary.getEndEventDateTime());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+        try {
+            EventSummary previous = summaries.remove(id);
+            if (previous != null) {
+                unlink(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 등록 기간 [beginEnrollmentDateTime, closeEnrollmentDateTime) 에 at 이 포함되는 이벤트.
+     */
+    public List<EventSummary> findEnrollingAt(LocalDateTime at) {
+        return find(enrollmentBuckets, longEnrollments, at, at,
+            s -> !s.getBeginEnrollmentDateTime().isAfter(at) && s.getCloseEnrollmentDateTime().isAfter(at),
+            EventSummary::getBeginEnrollmentDateTime);
+    }
+
+    /**
+     * 이벤트 기간 [beginEventDateTime, endEventDateTime) 이 [from, to] 와 겹치는 이벤트.
+     */
+    public List<EventSummary> findHappeningBetween(LocalDateTime from, LocalDateTime to) {
+        return find(eventBuckets, longEvents, from, to,
+            s -> !s.getBeginEventDateTime().isAfter(to) && s.getEndEventDateTime().isAfter(from),
+            EventSummary::getBeginEventDateTime);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return summaries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<EventSummary> find(NavigableMap<Long, Set<Integer>> buckets, Set<Integer> longIntervals,
+        LocalDateTime from, LocalDateTime to, Predicate<EventSummary> overlaps,
+        Function<EventSummary, LocalDateTime> begin) {
+        List<EventSummary> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Collection<Set<Integer>> candidates = new ArrayList<>(
+                buckets.subMap(bucketOf(from), true, bucketOf(to), true).values());
+            if (!longIntervals.isEmpty()) {
+                candidates.add(longIntervals);
+            }
+            Set<Integer> visited = candidates.size() > 1 ? new HashSet<>() : null;
+            for (Set<Integer> ids : candidates) {
+                for (Integer id : ids) {
+                    if (visited != null && !visited.add(id)) {
+                        continue;
+                    }
+                    EventSummary summary = summaries.get(id);
+                    if (overlaps.test(summary)) {
+                        result.add(summary);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        result.sort(Comparator.comparing(begin).thenComparing(EventSummary::getId));
+        return result;
+    }
+
+    private void link(NavigableMap<Long, Set<Integer>> buckets, Set<Integer> longIntervals, Integer id,
+        LocalDateTime begin, LocalDateTime end) {
+        if (!isValid(begin, end)) {
+            return;
+        }
+        if (isLong(begin, end)) {
+            longIntervals.add(id);
+            return;
+        }
+        for (long bucket = bucketOf(begin); bucket <= bucketOf(end); bucket++) {
+            buckets.computeIfAbsent(bucket, b -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void unlink(EventSummary summary) {
+        unlink(enrollmentBuckets, longEnrollments, summary.getId(), summary.getBeginEnrollmentDateTime(),
+            summary.getCloseEnrollmentDateTime());
+        unlink(eventBuckets, longEvents, summary.getId(), summary.getBeginEventDateTime(),
+            summary.getEndEventDateTime());
+    }
+
+    private void unlink(NavigableMap<Long, Set<Integer>> buckets, Set<Integer> longIntervals, Integer id,
+        LocalDateTime begin, LocalDateTime end) {
+        if (!isValid(begin, end)) {
+            return;
+        }
+        if (isLong(begin, end)) {
+            longIntervals.remove(id);
+            return;
+        }
+        for (long bucket = bucketOf(begin); bucket <= bucketOf(end); bucket++) {
+            Set<Integer> ids = buckets.get(bucket);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                buckets.remove(bucket);
+            }
+        }
+    }
+
+    private boolean isValid(LocalDateTime begin, LocalDateTime end) {
+        return Objects.nonNull(begin) && Objects.nonNull(end) && begin.isBefore(end);
+    }
+
+    private boolean isLong(LocalDateTime begin, LocalDateTime end) {
+        return bucketOf(end) - bucketOf(begin) >= MAX_BUCKETS_PER_INTERVAL;
+    }
+
+    private boolean isNewer(EventSummary current, EventSummary candidate) {
+        return current.getVersion() != null && candidate.getVersion() != null
+            && current.getVersion() > candidate.getVersion();
+    }
+
+    private long bucketOf(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), bucketSeconds);
+    }
+}
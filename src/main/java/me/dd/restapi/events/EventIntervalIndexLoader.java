@@ -0,0 +1,46 @@
+package me.dd.restapi.events;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션이 뜰 때 저장된 이벤트를 id 순으로 나눠 읽어 구간 인덱스를 채운다.
+ * 이후 EventStatusChangedEvent 가 오면 해당 이벤트만 다시 읽는다.
+ */
+@Component
+public class EventIntervalIndexLoader {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventIntervalIndex eventIntervalIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int lastId = 0;
+        List<EventSummary> summaries;
+        do {
+            summaries = eventRepository.findSummariesAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+            summaries.forEach(eventIntervalIndex::put);
+            if (!summaries.isEmpty()) {
+                lastId = summaries.get(summaries.size() - 1).getId();
+            }
+        } while (summaries.size() == BATCH_SIZE);
+    }
+
+    /**
+     * 컨트롤러를 거치지 않고 상태가 바뀐 이벤트를 다시 읽어 넣는다.
+     */
+    @EventListener
+    public void reload(EventStatusChangedEvent event) {
+        eventRepository.findSummariesByIdIn(event.getEventIds()).forEach(eventIntervalIndex::put);
+    }
+}
@@ -0,0 +1,45 @@
+package me.dd.restapi.events;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * EventDto 와 Event 사이의 값을 직접 복사한다. ModelMapper 처럼 리플렉션으로 프로퍼티를 찾지 않으므로
+ * 호출마다 생기는 할당이 결과 객체 하나로 끝난다.
+ */
+@Component
+public class EventMapper {
+
+    @Timed(value = "events.mapping", description = "EventDto to Event mapping time")
+    public Event toEvent(EventDto eventDto) {
+        Event event = new Event();
+        event.setName(eventDto.getName());
+        event.setDescription(eventDto.getDescription());
+        event.setBeginEnrollmentDateTime(eventDto.getBeginEnrollmentDateTime());
+        event.setCloseEnrollmentDateTime(eventDto.getCloseEnrollmentDateTime());
+        event.setBeginEventDateTime(eventDto.getBeginEventDateTime());
+        event.setEndEventDateTime(eventDto.getEndEventDateTime());
+        event.setLocation(eventDto.getLocation());
+        event.setBasePrice(eventDto.getBasePrice());
+        event.setMaxPrice(eventDto.getMaxPrice());
+        event.setLimitOfEnrollment(eventDto.getLimitOfEnrollment());
+        event.update();
+        return event;
+    }
+
+    public EventDto toDto(Event event) {
+        return EventDto.builder()
+            .name(event.getName())
+            .description(event.getDescription())
+            .beginEnrollmentDateTime(event.getBeginEnrollmentDateTime())
+            .closeEnrollmentDateTime(event.getCloseEnrollmentDateTime())
+            .beginEventDateTime(event.getBeginEventDateTime())
+            .endEventDateTime(event.getEndEventDateTime())
+            .location(event.getLocation())
+            .basePrice(event.getBasePrice())
+            .maxPrice(event.getMaxPrice())
+            .limitOfEnrollment(event.getLimitOfEnrollment())
+            .build();
+    }
+}
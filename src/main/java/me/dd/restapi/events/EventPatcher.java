@@ -0,0 +1,122 @@
+package me.dd.restapi.events;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import me.dd.restapi.commons.JsonMergePatch;
+
+/**
+ * JSON Merge Patch 로 이벤트의 일부를 수정한다. 바뀐 컬럼만 모아 UPDATE ... WHERE id = ? AND version = ? 한 문장으로 쓰고,
+ * 쓰기에 성공하면 같은 변경을 메모리의 이벤트에도 적용하므로 응답을 만들려고 다시 읽지 않는다.
+ * JPQL 벌크 수정은 이벤트 2차 캐시 영역 전체를 비우므로 JDBC 로 쓰고 수정한 이벤트 하나만 캐시에서 뺀다.
+ */
+@Component
+public class EventPatcher {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventMapper eventMapper;
+    private final ObjectMapper objectMapper;
+    private final EventCacheEvictor eventCacheEvictor;
+    private final EntityManager entityManager;
+
+    public EventPatcher(JdbcTemplate jdbcTemplate, EventMapper eventMapper, ObjectMapper objectMapper,
+        EventCacheEvictor eventCacheEvictor, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventMapper = eventMapper;
+        this.objectMapper = objectMapper;
+        this.eventCacheEvictor = eventCacheEvictor;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 이벤트의 현재 값에 패치를 합친 EventDto. 모르는 필드가 있거나 값의 형식이 틀리면 IllegalArgumentException.
+     */
+    public EventDto merge(Event event, JsonNode patch) {
+        JsonNode merged = JsonMergePatch.apply(objectMapper.valueToTree(eventMapper.toDto(event)), patch);
+        try {
+            return objectMapper.treeToValue(merged, EventDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * 검증을 마친 EventDto 와 다른 값만 저장하고 이벤트에도 반영한다. free, offline 은 가격이나 장소가 바뀐 경우에만 다시 계산한다.
+     * 이벤트는 UPDATE 가 한 행을 바꾼 뒤에만 영속성 컨텍스트에서 떼어 내고 고치므로, 나중에 flush 되어도 두 번 쓰이지 않는다.
+     * 다른 요청이 먼저 수정했거나 그 사이 삭제되었으면 이벤트를 건드리지 않고 false 를 돌려준다.
+     */
+    public boolean apply(Event event, EventDto eventDto) {
+        List<String> columns = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        List<Runnable> updates = new ArrayList<>();
+        change(columns, values, updates, "name", event.getName(), eventDto.getName(), event::setName);
+        change(columns, values, updates, "description", event.getDescription(), eventDto.getDescription(),
+            event::setDescription);
+        change(columns, values, updates, "begin_enrollment_date_time", event.getBeginEnrollmentDateTime(),
+            eventDto.getBeginEnrollmentDateTime(), event::setBeginEnrollmentDateTime);
+        change(columns, values, updates, "close_enrollment_date_time", event.getCloseEnrollmentDateTime(),
+            eventDto.getCloseEnrollmentDateTime(), event::setCloseEnrollmentDateTime);
+        change(columns, values, updates, "begin_event_date_time", event.getBeginEventDateTime(),
+            eventDto.getBeginEventDateTime(), event::setBeginEventDateTime);
+        change(columns, values, updates, "end_event_date_time", event.getEndEventDateTime(),
+            eventDto.getEndEventDateTime(), event::setEndEventDateTime);
+        change(columns, values, updates, "limit_of_enrollment", event.getLimitOfEnrollment(),
+            eventDto.getLimitOfEnrollment(), event::setLimitOfEnrollment);
+        int derivedFrom = columns.size();
+        change(columns, values, updates, "location", event.getLocation(), eventDto.getLocation(),
+            event::setLocation);
+        change(columns, values, updates, "base_price", event.getBasePrice(), eventDto.getBasePrice(),
+            event::setBasePrice);
+        change(columns, values, updates, "max_price", event.getMaxPrice(), eventDto.getMaxPrice(),
+            event::setMaxPrice);
+        if (columns.size() > derivedFrom) {
+            Event derived = Event.builder()
+                .location(eventDto.getLocation())
+                .basePrice(eventDto.getBasePrice())
+                .maxPrice(eventDto.getMaxPrice())
+                .build();
+            derived.update();
+            change(columns, values, updates, "offline", event.isOffline(), derived.isOffline(), event::setOffline);
+            change(columns, values, updates, "free", event.isFree(), derived.isFree(), event::setFree);
+        }
+        if (columns.isEmpty()) {
+            return true;
+        }
+
+        values.add(event.getId());
+        values.add(event.getVersion());
+        String sql = "update event set " + String.join(" = ?, ", columns) + " = ?, version = version + 1"
+            + " where id = ? and version = ?";
+        if (jdbcTemplate.update(sql, values.toArray()) == 0) {
+            return false;
+        }
+        entityManager.detach(event);
+        updates.forEach(Runnable::run);
+        event.setVersion(event.getVersion() + 1);
+        eventCacheEvictor.evict(List.of(event.getId()));
+        return true;
+    }
+
+    private <T> void change(List<String> columns, List<Object> values, List<Runnable> updates, String column,
+        T current, T value, Consumer<T> setter) {
+        if (Objects.equals(current, value)) {
+            return;
+        }
+        columns.add(column);
+        values.add(value instanceof LocalDateTime ? Timestamp.valueOf((LocalDateTime) value) : value);
+        updates.add(() -> setter.accept(value));
+    }
+}
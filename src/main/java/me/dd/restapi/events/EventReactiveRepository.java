@@ -0,0 +1,130 @@
+package me.dd.restapi.events;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import me.dd.restapi.accounts.Account;
+import reactor.core.publisher.Mono;
+
+/**
+ * reactive 프로파일의 이벤트 조회 저장소. JPA 를 거치지 않고 R2DBC 로 이벤트와 관리자 이메일을 한번에 읽는다.
+ * 읽은 행은 영속성 컨텍스트와 무관한 Event 로 만들어 {@link EventView} 로 바꾸는 데만 쓴다.
+ */
+@Repository
+@Profile("reactive")
+public class EventReactiveRepository {
+
+    private static final String SELECT_SQL = "select e.id, e.name, e.description,"
+        + " e.begin_enrollment_date_time, e.close_enrollment_date_time, e.begin_event_date_time, e.end_event_date_time,"
+        + " e.location, e.base_price, e.max_price, e.limit_of_enrollment, e.offline, e.free, e.event_status,"
+        + " e.version, e.manager_id, a.email as manager_email"
+        + " from event e left join account a on a.id = e.manager_id";
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+        "id", "e.id",
+        "name", "e.name",
+        "beginEnrollmentDateTime", "e.begin_enrollment_date_time",
+        "closeEnrollmentDateTime", "e.close_enrollment_date_time",
+        "beginEventDateTime", "e.begin_event_date_time",
+        "endEventDateTime", "e.end_event_date_time",
+        "basePrice", "e.base_price",
+        "maxPrice", "e.max_price",
+        "limitOfEnrollment", "e.limit_of_enrollment",
+        "eventStatus", "e.event_status");
+
+    private final DatabaseClient databaseClient;
+
+    public EventReactiveRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public static boolean isSortable(Sort sort) {
+        return sort.stream().allMatch(order -> SORTABLE_COLUMNS.containsKey(order.getProperty()));
+    }
+
+    public Mono<Event> findById(Integer id) {
+        return databaseClient.execute(SELECT_SQL + " where e.id = :id")
+            .bind("id", id)
+            .map(this::toEvent)
+            .one();
+    }
+
+    public Mono<Long> findVersionById(Integer id) {
+        return databaseClient.execute("select version from event where id = :id")
+            .bind("id", id)
+            .map((row, metadata) -> row.get("version", Long.class))
+            .one();
+    }
+
+    /**
+     * 정렬 키가 같은 행의 순서가 요청마다 바뀌지 않도록 id 를 마지막 정렬 키로 붙인다.
+     * 전체 개수는 PageableExecutionUtils 처럼 마지막 페이지에서는 세지 않는다.
+     */
+    public Mono<Page<Event>> findAll(Pageable pageable) {
+        return databaseClient.execute(SELECT_SQL + orderBy(pageable.getSort()) + " limit :limit offset :offset")
+            .bind("limit", pageable.getPageSize())
+            .bind("offset", pageable.getOffset())
+            .map(this::toEvent)
+            .all()
+            .collectList()
+            .flatMap(events -> total(pageable, events).map(total -> new PageImpl<>(events, pageable, total)));
+    }
+
+    private Mono<Long> total(Pageable pageable, List<Event> events) {
+        if (events.size() > 0 && events.size() < pageable.getPageSize()) {
+            return Mono.just(pageable.getOffset() + events.size());
+        }
+        return databaseClient.execute("select count(*) from event")
+            .map((row, metadata) -> row.get(0, Long.class))
+            .one();
+    }
+
+    private String orderBy(Sort sort) {
+        String orders = sort.stream()
+            .filter(order -> !order.getProperty().equals("id"))
+            .map(order -> SORTABLE_COLUMNS.get(order.getProperty()) + (order.isAscending() ? " asc" : " desc"))
+            .collect(Collectors.joining(", "));
+        Sort.Order idOrder = sort.getOrderFor("id");
+        String id = "e.id" + (Objects.isNull(idOrder) || idOrder.isAscending() ? " asc" : " desc");
+        return " order by " + (orders.isEmpty() ? id : orders + ", " + id);
+    }
+
+    private Event toEvent(Row row, RowMetadata metadata) {
+        Integer managerId = row.get("manager_id", Integer.class);
+        Account manager = Objects.isNull(managerId) ? null : Account.builder()
+            .id(managerId)
+            .email(row.get("manager_email", String.class))
+            .build();
+        String eventStatus = row.get("event_status", String.class);
+        return Event.builder()
+            .id(row.get("id", Integer.class))
+            .name(row.get("name", String.class))
+            .description(row.get("description", String.class))
+            .beginEnrollmentDateTime(row.get("begin_enrollment_date_time", LocalDateTime.class))
+            .closeEnrollmentDateTime(row.get("close_enrollment_date_time", LocalDateTime.class))
+            .beginEventDateTime(row.get("begin_event_date_time", LocalDateTime.class))
+            .endEventDateTime(row.get("end_event_date_time", LocalDateTime.class))
+            .location(row.get("location", String.class))
+            .basePrice(row.get("base_price", Integer.class))
+            .maxPrice(row.get("max_price", Integer.class))
+            .limitOfEnrollment(row.get("limit_of_enrollment", Integer.class))
+            .offline(row.get("offline", Boolean.class))
+            .free(row.get("free", Boolean.class))
+            .eventStatus(Objects.isNull(eventStatus) ? null : EventStatus.valueOf(eventStatus))
+            .version(row.get("version", Long.class))
+            .manager(manager)
+            .build();
+    }
+}
@@ -1,7 +1,66 @@
 package me.dd.restapi.events;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface EventRepository extends JpaRepository<Event, Integer>, JpaSpecificationExecutor<Event>,
+    EventRepositoryCustom {
+
+    /**
+     * 자주 조회되는 앞쪽 페이지를 위한 findAll. 결과 id 목록이 쿼리 캐시에 남고 엔티티는 2차 캐시에서 읽는다.
+     */
+    @EntityGraph(attributePaths = "manager")
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query(value = "select e from Event e", countQuery = "select count(e) from Event e")
+    Page<Event> findAllCached(Pageable pageable);
+
+    /**
+     * 목록과 상세 조회는 manager 를 같은 쿼리에서 조인해서 읽는다. manager 의 roles 는 @BatchSize 로 한번에 읽힌다.
+     */
+    @Override
+    @EntityGraph(attributePaths = "manager")
+    Page<Event> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "manager")
+    Page<Event> findAll(Specification<Event> specification, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "manager")
+    Optional<Event> findById(Integer id);
+
+    @Query("select e.version from Event e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Integer id);
+
+    @Query("select new me.dd.restapi.events.EventSummary(e.id, e.version, e.name, e.eventStatus,"
+        + " e.beginEnrollmentDateTime, e.closeEnrollmentDateTime, e.beginEventDateTime, e.endEventDateTime)"
+        + " from Event e where e.id > :id order by e.id")
+    List<EventSummary> findSummariesAfter(@Param("id") Integer id, Pageable pageable);
 
-public interface EventRepository extends JpaRepository<Event, Integer> {
+    @Query("select new me.dd.restapi.events.EventSummary(e.id, e.version, e.name, e.eventStatus,"
+        + " e.beginEnrollmentDateTime, e.closeEnrollmentDateTime, e.beginEventDateTime, e.endEventDateTime)"
+        + " from Event e where e.id in :ids")
+    List<EventSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
 
+    /**
+     * EventIntervalIndex#findEnrollingAt 과 같은 조건의 JPA 쿼리.
+     */
+    @Query("select e from Event e"
+        + " where e.beginEnrollmentDateTime <= :at and e.closeEnrollmentDateTime > :at"
+        + " order by e.beginEnrollmentDateTime, e.id")
+    List<Event> findEnrollingAt(@Param("at") LocalDateTime at);
 }
@@ -0,0 +1,38 @@
+package me.dd.restapi.events;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface EventRepositoryCustom {
+
+    /**
+     * 커서 위치 다음(backward 인 경우 이전)의 이벤트를 탐색 순서대로 최대 limit 개 조회한다.
+     * OFFSET 없이 (정렬 키, id) 조건으로 바로 찾아가므로 페이지 깊이와 상관없이 비용이 같다.
+     */
+    List<Event> findBySeek(EventCursor cursor, boolean backward, int limit);
+
+    /**
+     * COUNT 쿼리 없이 한 페이지를 조회한다. 다음 페이지 여부는 size + 1 개를 조회해서 판단한다.
+     */
+    Slice<Event> findSlice(Pageable pageable);
+
+    /**
+     * 조건에 맞는 이벤트를 id 순으로 흘려보낸다. JDBC fetch size 만큼씩 읽고, 읽은 행은 바로 영속성 컨텍스트에서 분리한다.
+     * 트랜잭션 안에서 호출하고 사용 후에는 반드시 닫아야 한다.
+     */
+    Stream<Event> streamAll(Specification<Event> specification, int fetchSize);
+
+    /**
+     * 요청한 필드와 id, version 컬럼만 SELECT 한다. manager 조인이 없고 description 같은 큰 컬럼도 고를 때만 읽는다.
+     */
+    Page<EventFields> findFields(Specification<Event> specification, Set<String> fields, Pageable pageable);
+
+    Optional<EventFields> findFieldsById(Integer id, Set<String> fields);
+}
@@ -0,0 +1,165 @@
+package me.dd.restapi.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+
+import org.hibernate.CacheMode;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+
+public class EventRepositoryImpl implements EventRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Event> findBySeek(EventCursor cursor, boolean backward, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        Path<Comparable> key = root.get(cursor.getProperty());
+        Path<Integer> id = root.get("id");
+        root.fetch("manager", JoinType.LEFT);
+        boolean ascending = cursor.getDirection().isAscending() != backward;
+
+        if (cursor.hasPosition()) {
+            Comparable value = cursor.getValue();
+            Predicate keyBeyond = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+            Predicate idBeyond = ascending ? cb.greaterThan(id, cursor.getId()) : cb.lessThan(id, cursor.getId());
+            query.where(cb.or(keyBeyond, cb.and(cb.equal(key, value), idBeyond)));
+        }
+        query.orderBy(order(cb, key, ascending), order(cb, id, ascending));
+
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public Slice<Event> findSlice(Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        root.fetch("manager", JoinType.LEFT);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<Event> rows = entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize() + 1)
+            .getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Event> content = hasNext ? new ArrayList<>(rows.subList(0, pageable.getPageSize())) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public Stream<Event> streamAll(Specification<Event> specification, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        root.fetch("manager", JoinType.LEFT);
+        Predicate predicate = Objects.isNull(specification) ? null : specification.toPredicate(root, query, cb);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+            .setHint(QueryHints.FETCH_SIZE, fetchSize)
+            .setHint(QueryHints.READ_ONLY, true)
+            .setHint(QueryHints.CACHE_MODE, CacheMode.IGNORE)
+            .getResultStream()
+            .map(this::detach);
+    }
+
+    @Override
+    public Page<EventFields> findFields(Specification<Event> specification, Set<String> fields,
+        Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+        query.multiselect(selections(root, fields));
+        Predicate predicate = Objects.isNull(specification) ? null : specification.toPredicate(root, query, cb);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<EventFields> content = entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList().stream()
+            .map(tuple -> EventFields.of(tuple, fields))
+            .collect(Collectors.toList());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    @Override
+    public Optional<EventFields> findFieldsById(Integer id, Set<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+        query.multiselect(selections(root, fields));
+        query.where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query).getResultList().stream()
+            .map(tuple -> EventFields.of(tuple, fields))
+            .findFirst();
+    }
+
+    private List<Selection<?>> selections(Root<Event> root, Set<String> fields) {
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id").alias("id"));
+        selections.add(root.get("version").alias("version"));
+        fields.forEach(field -> selections.add(root.get(field).alias(field)));
+        return selections;
+    }
+
+    private long count(Specification<Event> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(cb.count(root));
+        Predicate predicate = Objects.isNull(specification) ? null : specification.toPredicate(root, query, cb);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Event detach(Event event) {
+        entityManager.detach(event);
+        if (Objects.nonNull(event.getManager())) {
+            entityManager.detach(event.getManager());
+        }
+        return event;
+    }
+
+    private Order order(CriteriaBuilder cb, Path<?> path, boolean ascending) {
+        return ascending ? cb.asc(path) : cb.desc(path);
+    }
+}
@@ -1,14 +1,18 @@
 package me.dd.restapi.events;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
-
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 
-public class EventResource extends EntityModel<Event> {
+import me.dd.restapi.commons.RequestLinks;
+
+public class EventResource extends EntityModel<EventView> {
+
+    public EventResource(EventView content, Link... links) {
+        this(RequestLinks.baseUri(), content, links);
+    }
 
-    public EventResource(Event content, Link... links) {
+    public EventResource(String baseUri, EventView content, Link... links) {
         super(content, links);
-        add(linkTo(EventController.class).withSelfRel());
+        add(RequestLinks.event(baseUri, content.getId()).withSelfRel());
     }
 }
@@ -0,0 +1,36 @@
+package me.dd.restapi.events;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이벤트 목록 필터 조건. 가격은 basePrice 기준이고, 날짜 구간은 시작 시각이 [from, to) 에 들어오는 이벤트를 찾는다.
+ */
+@Data @Builder @NoArgsConstructor @AllArgsConstructor
+public class EventSearchCondition {
+
+    private EventStatus eventStatus;
+    private Boolean free;
+    private Boolean offline;
+    private Integer minPrice;
+    private Integer maxPrice;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime eventFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime eventTo;
+
+    public boolean isEmpty() {
+        return eventStatus == null && free == null && offline == null && minPrice == null && maxPrice == null
+            && enrollmentFrom == null && enrollmentTo == null && eventFrom == null && eventTo == null;
+    }
+}
@@ -0,0 +1,47 @@
+package me.dd.restapi.events;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+
+/**
+ * COUNT 쿼리 없이 조회한 이벤트 목록. page 블록의 totalElements 는 요청한 경우에만 담기며
+ * 항상 추정값이므로 estimated 로 표시한다.
+ */
+public class EventSliceModel extends CollectionModel<EventResource> {
+
+    private final SliceMetadata metadata;
+
+    public EventSliceModel(Iterable<EventResource> content, SliceMetadata metadata, Link... links) {
+        super(content, links);
+        this.metadata = metadata;
+    }
+
+    @JsonProperty("page")
+    public SliceMetadata getMetadata() {
+        return metadata;
+    }
+
+    @Getter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SliceMetadata {
+
+        private final int size;
+        private final int number;
+        private final boolean hasNext;
+        private final Long totalElements;
+        private final Boolean estimated;
+
+        public SliceMetadata(int size, int number, boolean hasNext, Long totalElements) {
+            this.size = size;
+            this.number = number;
+            this.hasNext = hasNext;
+            this.totalElements = totalElements;
+            this.estimated = totalElements == null ? null : Boolean.TRUE;
+        }
+    }
+}
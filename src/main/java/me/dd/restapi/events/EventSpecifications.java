@@ -0,0 +1,62 @@
+package me.dd.restapi.events;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import org.springframework.data.jpa.domain.Specification;
+
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> of(EventSearchCondition condition) {
+        return Specification.where(eventStatusIs(condition.getEventStatus()))
+            .and(beginEventBetween(condition.getEventFrom(), condition.getEventTo()))
+            .and(beginEnrollmentBetween(condition.getEnrollmentFrom(), condition.getEnrollmentTo()))
+            .and(freeIs(condition.getFree()))
+            .and(offlineIs(condition.getOffline()))
+            .and(basePriceBetween(condition.getMinPrice(), condition.getMaxPrice()));
+    }
+
+    public static Specification<Event> eventStatusIs(EventStatus eventStatus) {
+        if (Objects.isNull(eventStatus)) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("eventStatus"), eventStatus);
+    }
+
+    public static Specification<Event> freeIs(Boolean free) {
+        if (Objects.isNull(free)) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("free"), free);
+    }
+
+    public static Specification<Event> offlineIs(Boolean offline) {
+        if (Objects.isNull(offline)) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("offline"), offline);
+    }
+
+    public static Specification<Event> basePriceBetween(Integer min, Integer max) {
+        return Specification.<Event>where(
+            Objects.isNull(min) ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("basePrice"), min))
+            .and(Objects.isNull(max) ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("basePrice"), max));
+    }
+
+    public static Specification<Event> beginEventBetween(LocalDateTime from, LocalDateTime to) {
+        return between("beginEventDateTime", from, to);
+    }
+
+    public static Specification<Event> beginEnrollmentBetween(LocalDateTime from, LocalDateTime to) {
+        return between("beginEnrollmentDateTime", from, to);
+    }
+
+    private static Specification<Event> between(String property, LocalDateTime from, LocalDateTime to) {
+        return Specification.<Event>where(
+            Objects.isNull(from) ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(property), from))
+            .and(Objects.isNull(to) ? null : (root, query, cb) -> cb.lessThan(root.get(property), to));
+    }
+}
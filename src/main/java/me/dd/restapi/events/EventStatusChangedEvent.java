@@ -0,0 +1,15 @@
+package me.dd.restapi.events;
+
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * EventTransitionScheduler 가 이벤트의 상태를 DB 에서 직접 바꾼 뒤 발행한다.
+ */
+@Value
+public class EventStatusChangedEvent {
+
+    private List<Integer> eventIds;
+    private EventStatus eventStatus;
+}
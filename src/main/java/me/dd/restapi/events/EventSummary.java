@@ -0,0 +1,33 @@
+package me.dd.restapi.events;
+
+import java.time.LocalDateTime;
+
+import org.springframework.hateoas.server.core.Relation;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Value;
+
+/**
+ * 인메모리 구간 인덱스에 담기는 이벤트의 시간 정보 스냅샷.
+ */
+@Value
+@Relation(collectionRelation = "eventList")
+public class EventSummary {
+
+    private Integer id;
+    @JsonIgnore
+    private Long version;
+    private String name;
+    private EventStatus eventStatus;
+    private LocalDateTime beginEnrollmentDateTime;
+    private LocalDateTime closeEnrollmentDateTime;
+    private LocalDateTime beginEventDateTime;
+    private LocalDateTime endEventDateTime;
+
+    public static EventSummary of(Event event) {
+        return new EventSummary(event.getId(), event.getVersion(), event.getName(), event.getEventStatus(),
+            event.getBeginEnrollmentDateTime(), event.getCloseEnrollmentDateTime(),
+            event.getBeginEventDateTime(), event.getEndEventDateTime());
+    }
+}
@@ -0,0 +1,134 @@
+package me.dd.restapi.events;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 이벤트 id 를 키로 하는 계층형 타이밍 휠. 단계마다 64칸이고, 0단계 한 칸은 tick 하나, 위 단계 한 칸은 아래 단계 한 바퀴다.
+ * 예약과 취소는 O(1) 이며, 시간이 한 tick 흐를 때마다 0단계의 한 칸만 꺼내고 위 단계의 칸은 아래 단계가 한 바퀴 돌 때 내려보낸다.
+ * 휠 전체 범위(64^4 tick)보다 먼 예약은 가장 위 단계에 두었다가 내려올 때 다시 자리를 잡는다.
+ */
+final class EventTimingWheel {
+
+    private static final int LEVELS = 4;
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final long SPAN = 1L << (BITS * LEVELS);
+
+    private final long tickMillis;
+    private final List<List<Set<Integer>>> wheels = new ArrayList<>(LEVELS);
+    private final Map<Integer, Timer> timers = new HashMap<>();
+    private final Set<Integer> expired = new LinkedHashSet<>();
+    private long currentTick;
+
+    EventTimingWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(nowMillis, tickMillis);
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Integer>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new HashSet<>());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    /**
+     * dueMillis 이후 처음 오는 tick 에 꺼내지도록 예약한다. 이미 예약된 id 는 옮긴다.
+     */
+    synchronized void schedule(Integer id, long dueMillis) {
+        cancel(id);
+        Timer timer = new Timer(id, Math.floorDiv(dueMillis + tickMillis - 1, tickMillis));
+        timers.put(id, timer);
+        place(timer);
+    }
+
+    synchronized void cancel(Integer id) {
+        Timer timer = timers.remove(id);
+        if (Objects.isNull(timer)) {
+            return;
+        }
+        if (Objects.isNull(timer.bucket)) {
+            expired.remove(id);
+        } else {
+            timer.bucket.remove(id);
+        }
+    }
+
+    /**
+     * nowMillis 까지 시간을 흘리고 때가 된 id 를 꺼낸다.
+     */
+    synchronized List<Integer> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            if (timers.size() == expired.size()) {
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (BITS * level)) - 1)) == 0) {
+                    cascade(wheels.get(level).get(slot(currentTick, level)));
+                }
+            }
+            Set<Integer> bucket = wheels.get(0).get(slot(currentTick, 0));
+            expired.addAll(bucket);
+            bucket.forEach(id -> timers.get(id).bucket = null);
+            bucket.clear();
+        }
+
+        List<Integer> due = new ArrayList<>(expired);
+        due.forEach(timers::remove);
+        expired.clear();
+        return due;
+    }
+
+    synchronized int size() {
+        return timers.size();
+    }
+
+    private void cascade(Set<Integer> bucket) {
+        List<Integer> ids = new ArrayList<>(bucket);
+        bucket.clear();
+        ids.forEach(id -> place(timers.get(id)));
+    }
+
+    private void place(Timer timer) {
+        long delta = timer.dueTick - currentTick;
+        if (delta <= 0) {
+            timer.bucket = null;
+            expired.add(timer.id);
+            return;
+        }
+        long placeTick = delta < SPAN ? timer.dueTick : currentTick + SPAN - 1;
+        int level = 0;
+        while (placeTick - currentTick >= (1L << (BITS * (level + 1)))) {
+            level++;
+        }
+        timer.bucket = wheels.get(level).get(slot(placeTick, level));
+        timer.bucket.add(timer.id);
+    }
+
+    private int slot(long tick, int level) {
+        return (int) ((tick >> (BITS * level)) & MASK);
+    }
+
+    private static final class Timer {
+
+        private final Integer id;
+        private final long dueTick;
+        private Set<Integer> bucket;
+
+        private Timer(Integer id, long dueTick) {
+            this.id = id;
+            this.dueTick = dueTick;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package me.dd.restapi.events;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시(PUBLISHED)된 이벤트를 등록 시작 시각(beginEnrollmentDateTime)이 되면 BEGAN_ENROLLMENT 로 바꾼다.
+ * 예정된 전환은 이벤트 id 를 키로 타이밍 휠에 담아 두므로 테이블을 주기적으로 훑지 않는다. 뜰 때 (eventStatus,
+ * beginEnrollmentDateTime) 인덱스로 게시된 이벤트만 읽어 채우고, 컨트롤러가 이벤트를 만들거나 고칠 때 다시 예약한다.
+ * tick 마다 때가 된 이벤트를 모아 UPDATE 한 문장으로 바꾸고 EventStatusChangedEvent 를 발행한다.
+ * UPDATE 는 상태와 시각을 다시 확인하므로 휠이 DB 와 어긋나도 잘못 바꾸지 않는다.
+ */
+@Slf4j
+@Component
+public class EventTransitionScheduler implements DisposableBean {
+
+    private static final String PUBLISHED_SQL = "select id, begin_enrollment_date_time from event"
+        + " where event_status = ? and begin_enrollment_date_time is not null";
+    private static final String TRANSITION_SQL = "update event set event_status = ?, version = version + 1"
+        + " where event_status = ? and begin_enrollment_date_time <= ? and id in (%s)";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventCacheEvictor eventCacheEvictor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final long tickMillis;
+    private final EventTimingWheel wheel;
+    private ScheduledExecutorService executor;
+
+    public EventTransitionScheduler(JdbcTemplate jdbcTemplate, EventCacheEvictor eventCacheEvictor,
+        ApplicationEventPublisher eventPublisher, Clock clock,
+        @Value("${app.events.transitions.tick:PT1S}") Duration tick) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventCacheEvictor = eventCacheEvictor;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.tickMillis = tick.toMillis();
+        this.wheel = new EventTimingWheel(tickMillis, clock.millis());
+    }
+
+    /**
+     * 이벤트를 저장한 뒤 호출한다. 게시된 이벤트면 등록 시작 시각에 예약하고, 아니면 예약을 지운다.
+     */
+    public void schedule(Event event) {
+        schedule(event.getId(), event.getEventStatus(), event.getBeginEnrollmentDateTime());
+    }
+
+    public int scheduled() {
+        return wheel.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        load();
+        executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("event-transitions-"));
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                tick();
+            } catch (RuntimeException e) {
+                log.error("Failed to transition events", e);
+            }
+        }, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void load() {
+        jdbcTemplate.query(PUBLISHED_SQL, rs -> {
+            schedule(rs.getInt(1), EventStatus.PUBLISHED, rs.getTimestamp(2).toLocalDateTime());
+        }, EventStatus.PUBLISHED.name());
+    }
+
+    /**
+     * 지금까지 때가 된 이벤트를 바꾸고 바뀐 수를 돌려준다. 쓰지 못한 이벤트는 다음 tick 에 다시 시도한다.
+     */
+    int tick() {
+        List<Integer> due = wheel.advance(clock.millis());
+        if (due.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        int transitioned = 0;
+        for (int from = 0; from < due.size(); from += BATCH_SIZE) {
+            List<Integer> ids = due.subList(from, Math.min(from + BATCH_SIZE, due.size()));
+            try {
+                transitioned += transition(ids, now);
+            } catch (DataAccessException e) {
+                log.warn("Failed to transition {} events, retrying on next tick", ids.size(), e);
+                long retryAt = clock.millis() + tickMillis;
+                ids.forEach(id -> wheel.schedule(id, retryAt));
+            }
+        }
+        return transitioned;
+    }
+
+    private int transition(List<Integer> ids, Timestamp now) {
+        List<Object> args = new ArrayList<>(ids.size() + 3);
+        args.add(EventStatus.BEGAN_ENROLLMENT.name());
+        args.add(EventStatus.PUBLISHED.name());
+        args.add(now);
+        args.addAll(ids);
+        String sql = String.format(TRANSITION_SQL, String.join(", ", Collections.nCopies(ids.size(), "?")));
+        int updated = jdbcTemplate.update(sql, args.toArray());
+
+        eventCacheEvictor.evict(ids);
+        eventPublisher.publishEvent(new EventStatusChangedEvent(List.copyOf(ids), EventStatus.BEGAN_ENROLLMENT));
+        return updated;
+    }
+
+    private void schedule(Integer id, EventStatus eventStatus, LocalDateTime beginEnrollmentDateTime) {
+        if (eventStatus != EventStatus.PUBLISHED || Objects.isNull(beginEnrollmentDateTime)) {
+            wheel.cancel(id);
+            return;
+        }
+        wheel.schedule(id, beginEnrollmentDateTime.atZone(clock.getZone()).toInstant().toEpochMilli());
+    }
+
+    @Override
+    public void destroy() {
+        if (Objects.nonNull(executor)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -5,9 +5,12 @@ import java.time.LocalDateTime;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
 
+import io.micrometer.core.annotation.Timed;
+
 @Component
 public class EventValidator {
 
+    @Timed(value = "events.validation", description = "EventDto business rule validation time")
     public void validate(EventDto eventDto, Errors errors) {
         if (eventDto.getBasePrice() > eventDto.getMaxPrice() && eventDto.getMaxPrice() != 0) {
             errors.rejectValue("basePrice", "wrongValue","basePrice is wrong");
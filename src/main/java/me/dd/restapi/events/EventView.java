@@ -0,0 +1,57 @@
+package me.dd.restapi.events;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import org.springframework.hateoas.server.core.Relation;
+
+import lombok.Getter;
+
+/**
+ * 이벤트 응답용 읽기 모델. 엔티티에서 필요한 값만 복사해 두므로 직렬화하는 동안 영속성 컨텍스트나 지연 로딩과 무관하다.
+ * 직렬화는 {@link EventViewSerializer} 가 담당한다.
+ */
+@Getter
+@Relation(collectionRelation = "eventList")
+public final class EventView {
+
+    private final Integer id;
+    private final String name;
+    private final String description;
+    private final LocalDateTime beginEnrollmentDateTime;
+    private final LocalDateTime closeEnrollmentDateTime;
+    private final LocalDateTime beginEventDateTime;
+    private final LocalDateTime endEventDateTime;
+    private final String location;
+    private final int basePrice;
+    private final int maxPrice;
+    private final int limitOfEnrollment;
+    private final boolean offline;
+    private final boolean free;
+    private final EventStatus eventStatus;
+    private final Integer managerId;
+    private final String managerEmail;
+
+    private EventView(Event event) {
+        this.id = event.getId();
+        this.name = event.getName();
+        this.description = event.getDescription();
+        this.beginEnrollmentDateTime = event.getBeginEnrollmentDateTime();
+        this.closeEnrollmentDateTime = event.getCloseEnrollmentDateTime();
+        this.beginEventDateTime = event.getBeginEventDateTime();
+        this.endEventDateTime = event.getEndEventDateTime();
+        this.location = event.getLocation();
+        this.basePrice = event.getBasePrice();
+        this.maxPrice = event.getMaxPrice();
+        this.limitOfEnrollment = event.getLimitOfEnrollment();
+        this.offline = event.isOffline();
+        this.free = event.isFree();
+        this.eventStatus = event.getEventStatus();
+        this.managerId = Objects.isNull(event.getManager()) ? null : event.getManager().getId();
+        this.managerEmail = Objects.isNull(event.getManager()) ? null : event.getManager().getEmail();
+    }
+
+    public static EventView of(Event event) {
+        return new EventView(event);
+    }
+}
@@ -0,0 +1,146 @@
+package me.dd.restapi.events;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+import org.springframework.boot.jackson.JsonComponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+/**
+ * EventView 를 리플렉션 없이 정해진 순서로 쓴다. 필드 이름은 미리 인코딩해 두고 날짜는 하나의 포매터로 쓴다.
+ * EntityModel 은 내용을 @JsonUnwrapped 로 펼치므로 펼친 형태의 직렬화도 지원한다.
+ */
+@JsonComponent
+public class EventViewSerializer extends JsonSerializer<EventView> {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final boolean unwrapping;
+    private final SerializedString id;
+    private final SerializedString name;
+    private final SerializedString description;
+    private final SerializedString beginEnrollmentDateTime;
+    private final SerializedString closeEnrollmentDateTime;
+    private final SerializedString beginEventDateTime;
+    private final SerializedString endEventDateTime;
+    private final SerializedString location;
+    private final SerializedString basePrice;
+    private final SerializedString maxPrice;
+    private final SerializedString limitOfEnrollment;
+    private final SerializedString offline;
+    private final SerializedString free;
+    private final SerializedString eventStatus;
+    private final SerializedString manager;
+
+    public EventViewSerializer() {
+        this(false, NameTransformer.NOP);
+    }
+
+    private EventViewSerializer(boolean unwrapping, NameTransformer names) {
+        this.unwrapping = unwrapping;
+        this.id = name(names, "id");
+        this.name = name(names, "name");
+        this.description = name(names, "description");
+        this.beginEnrollmentDateTime = name(names, "beginEnrollmentDateTime");
+        this.closeEnrollmentDateTime = name(names, "closeEnrollmentDateTime");
+        this.beginEventDateTime = name(names, "beginEventDateTime");
+        this.endEventDateTime = name(names, "endEventDateTime");
+        this.location = name(names, "location");
+        this.basePrice = name(names, "basePrice");
+        this.maxPrice = name(names, "maxPrice");
+        this.limitOfEnrollment = name(names, "limitOfEnrollment");
+        this.offline = name(names, "offline");
+        this.free = name(names, "free");
+        this.eventStatus = name(names, "eventStatus");
+        this.manager = name(names, "manager");
+    }
+
+    private static SerializedString name(NameTransformer names, String name) {
+        return new SerializedString(names.transform(name));
+    }
+
+    @Override
+    public void serialize(EventView event, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (!unwrapping) {
+            gen.writeStartObject(event);
+        }
+        gen.writeFieldName(id);
+        writeNumber(gen, event.getId());
+        gen.writeFieldName(name);
+        gen.writeString(event.getName());
+        gen.writeFieldName(description);
+        gen.writeString(event.getDescription());
+        gen.writeFieldName(beginEnrollmentDateTime);
+        writeDateTime(gen, event.getBeginEnrollmentDateTime());
+        gen.writeFieldName(closeEnrollmentDateTime);
+        writeDateTime(gen, event.getCloseEnrollmentDateTime());
+        gen.writeFieldName(beginEventDateTime);
+        writeDateTime(gen, event.getBeginEventDateTime());
+        gen.writeFieldName(endEventDateTime);
+        writeDateTime(gen, event.getEndEventDateTime());
+        gen.writeFieldName(location);
+        gen.writeString(event.getLocation());
+        gen.writeFieldName(basePrice);
+        gen.writeNumber(event.getBasePrice());
+        gen.writeFieldName(maxPrice);
+        gen.writeNumber(event.getMaxPrice());
+        gen.writeFieldName(limitOfEnrollment);
+        gen.writeNumber(event.getLimitOfEnrollment());
+        gen.writeFieldName(offline);
+        gen.writeBoolean(event.isOffline());
+        gen.writeFieldName(free);
+        gen.writeBoolean(event.isFree());
+        gen.writeFieldName(eventStatus);
+        gen.writeString(Objects.isNull(event.getEventStatus()) ? null : event.getEventStatus().name());
+        gen.writeFieldName(manager);
+        if (Objects.isNull(event.getManagerId())) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject();
+            gen.writeNumberField("id", event.getManagerId());
+            gen.writeStringField("email", event.getManagerEmail());
+            gen.writeEndObject();
+        }
+        if (!unwrapping) {
+            gen.writeEndObject();
+        }
+    }
+
+    private void writeNumber(JsonGenerator gen, Integer value) throws IOException {
+        if (Objects.isNull(value)) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private void writeDateTime(JsonGenerator gen, LocalDateTime value) throws IOException {
+        if (Objects.isNull(value)) {
+            gen.writeNull();
+        } else {
+            gen.writeString(DATE_TIME_FORMATTER.format(value));
+        }
+    }
+
+    @Override
+    public boolean isUnwrappingSerializer() {
+        return unwrapping;
+    }
+
+    @Override
+    public JsonSerializer<EventView> unwrappingSerializer(NameTransformer names) {
+        return new EventViewSerializer(true, names);
+    }
+
+    @Override
+    public Class<EventView> handledType() {
+        return EventView.class;
+    }
+}
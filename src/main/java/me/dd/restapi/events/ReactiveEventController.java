@@ -0,0 +1,86 @@
+package me.dd.restapi.events;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import me.dd.restapi.commons.ProfileLinks;
+import me.dd.restapi.commons.RequestLinks;
+import reactor.core.publisher.Mono;
+
+/**
+ * reactive 프로파일에서 이벤트 목록과 이벤트 하나를 R2DBC 로 조회한다. 핸들러는 Mono 를 돌려주고 바로 끝나므로
+ * 쿼리를 기다리는 동안 Tomcat 스레드를 잡고 있지 않으며, 응답은 EventController 와 같은 HAL 형식이다.
+ *
+ * <p>타입에 @Controller 를 붙이지 않아 기본 핸들러 매핑에는 잡히지 않고, {@link ReactiveEventHandlerMapping} 이
+ * 먼저 찾아본다. 페이지 파라미터 말고 다른 파라미터(필드 선택, 슬라이스, 커서, 필터 등)가 있는 요청은 그 매핑이
+ * 넘겨주므로 그대로 EventController 가 처리한다.
+ *
+ * <p>콜백은 요청 스레드가 아닌 곳에서 실행되므로 링크의 기준 URI 는 핸들러에서 미리 읽어 둔다.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveEventController {
+
+    private final EventReactiveRepository eventReactiveRepository;
+
+    public ReactiveEventController(EventReactiveRepository eventReactiveRepository) {
+        this.eventReactiveRepository = eventReactiveRepository;
+    }
+
+    @GetMapping(value = RequestLinks.EVENTS, produces = MediaTypes.HAL_JSON_VALUE)
+    public Mono<ResponseEntity<PagedModel<EventResource>>> queryEvents(Pageable pageable,
+        PagedResourcesAssembler<Event> assembler) {
+        if (!EventReactiveRepository.isSortable(pageable.getSort())) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        String baseUri = RequestLinks.baseUri();
+        Link requestLink = new Link(ServletUriComponentsBuilder.fromCurrentRequest().build().toUriString());
+        return eventReactiveRepository.findAll(pageable)
+            .map(events -> {
+                var pagedResources = assembler.toModel(events,
+                    e -> new EventResource(baseUri, EventView.of(e)), requestLink);
+                pagedResources.add(ProfileLinks.QUERY_LIST);
+                return ResponseEntity.ok(pagedResources);
+            });
+    }
+
+    @GetMapping(value = RequestLinks.EVENTS + "/{id:\\d+}", produces = MediaTypes.HAL_JSON_VALUE)
+    public Mono<ResponseEntity<EventResource>> getEvent(@PathVariable Integer id,
+        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String baseUri = RequestLinks.baseUri();
+        if (ifNoneMatch == null) {
+            return findEvent(id, baseUri);
+        }
+        return eventReactiveRepository.findVersionById(id)
+            .flatMap(version -> {
+                String eTag = EventETags.of(version);
+                if (EventETags.notModified(ifNoneMatch, eTag)) {
+                    return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<EventResource>build());
+                }
+                return findEvent(id, baseUri);
+            })
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    private Mono<ResponseEntity<EventResource>> findEvent(Integer id, String baseUri) {
+        return eventReactiveRepository.findById(id)
+            .map(event -> {
+                EventResource eventResource = new EventResource(baseUri, EventView.of(event));
+                eventResource.add(ProfileLinks.EVENTS_GET);
+                return ResponseEntity.ok().eTag(EventETags.of(event.getVersion())).body(eventResource);
+            })
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,123 @@
+package me.dd.restapi.events;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.data.web.SpringDataWebProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.condition.AbstractRequestCondition;
+import org.springframework.web.servlet.mvc.condition.RequestCondition;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * {@link ReactiveEventController} 만 담는 핸들러 매핑. 기본 RequestMappingHandlerMapping 보다 먼저 조회되므로
+ * reactive 프로파일에서는 같은 경로의 EventController 핸들러 대신 reactive 핸들러가 요청을 받는다.
+ * 여기서 찾지 못한 요청은 기본 매핑으로 넘어간다.
+ *
+ * <p>reactive 핸들러는 페이지 파라미터 말고는 아무 조건도 처리하지 않으므로, 알지 못하는 파라미터가 하나라도 있으면
+ * 맞지 않는 것으로 보고 기본 매핑으로 넘긴다. 필터나 조회 옵션이 새로 생겨도 reactive 쪽에서 무시되지 않는다.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveEventHandlerMapping extends RequestMappingHandlerMapping {
+
+    private final Set<String> pageableParameters;
+
+    public ReactiveEventHandlerMapping(
+        @Qualifier("mvcContentNegotiationManager") ContentNegotiationManager contentNegotiationManager,
+        SpringDataWebProperties springDataWebProperties) {
+        setOrder(Ordered.HIGHEST_PRECEDENCE);
+        setContentNegotiationManager(contentNegotiationManager);
+        SpringDataWebProperties.Pageable pageable = springDataWebProperties.getPageable();
+        this.pageableParameters = Set.of(
+            pageable.getPrefix() + pageable.getPageParameter(),
+            pageable.getPrefix() + pageable.getSizeParameter(),
+            springDataWebProperties.getSort().getSortParameter());
+    }
+
+    @Override
+    protected boolean isHandler(Class<?> beanType) {
+        return ReactiveEventController.class.isAssignableFrom(beanType);
+    }
+
+    /**
+     * 핸들러가 Pageable 을 받으면 페이지 파라미터만, 아니면 아무 파라미터도 받지 않는다.
+     */
+    @Override
+    protected RequestCondition<?> getCustomMethodCondition(Method method) {
+        boolean pageable = Arrays.stream(method.getParameterTypes()).anyMatch(Pageable.class::equals);
+        return new KnownParametersCondition(pageable ? pageableParameters : Set.of());
+    }
+
+    /**
+     * 기본 매핑은 확장자를 붙인 경로(/api/events.json)를 받지 않으므로 여기서도 받지 않는다.
+     */
+    @Override
+    protected RequestMappingInfo getMatchingMapping(RequestMappingInfo info, HttpServletRequest request) {
+        RequestMappingInfo match = super.getMatchingMapping(info, request);
+        if (match != null && match.getPatternsCondition().getPatterns().stream()
+            .allMatch(pattern -> pattern.endsWith(".*"))) {
+            return null;
+        }
+        return match;
+    }
+
+    /**
+     * 경로는 같지만 메소드나 파라미터가 다른 요청(POST /api/events, fields 조회 등)을 405/400 으로 끝내지 않고
+     * 기본 매핑으로 넘긴다.
+     */
+    @Override
+    protected HandlerMethod handleNoMatch(Set<RequestMappingInfo> infos, String lookupPath,
+        HttpServletRequest request) {
+        return null;
+    }
+
+    private static final class KnownParametersCondition extends AbstractRequestCondition<KnownParametersCondition> {
+
+        private final Set<String> parameters;
+
+        private KnownParametersCondition(Set<String> parameters) {
+            this.parameters = parameters;
+        }
+
+        @Override
+        protected Collection<String> getContent() {
+            return parameters;
+        }
+
+        @Override
+        protected String getToStringInfix() {
+            return " || ";
+        }
+
+        @Override
+        public KnownParametersCondition combine(KnownParametersCondition other) {
+            return other;
+        }
+
+        @Override
+        public KnownParametersCondition getMatchingCondition(HttpServletRequest request) {
+            if (CorsUtils.isPreFlightRequest(request)) {
+                return this;
+            }
+            return parameters.containsAll(request.getParameterMap().keySet()) ? this : null;
+        }
+
+        @Override
+        public int compareTo(KnownParametersCondition other, HttpServletRequest request) {
+            return 0;
+        }
+    }
+}
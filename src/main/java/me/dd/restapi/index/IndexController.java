@@ -1,20 +1,32 @@
 package me.dd.restapi.index;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
-
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import me.dd.restapi.events.EventController;
+import me.dd.restapi.commons.HalDocumentCache;
+import me.dd.restapi.commons.RequestLinks;
 
 @RestController
 public class IndexController {
 
-    @GetMapping("/api/")
-    public RepresentationModel index() {
-        var index = new RepresentationModel<>();
-        index.add(linkTo(EventController.class).withRel("events"));
-        return index;
+    private final HalDocumentCache halDocumentCache;
+
+    public IndexController(HalDocumentCache halDocumentCache) {
+        this.halDocumentCache = halDocumentCache;
+    }
+
+    /**
+     * 인덱스는 기준 URI 만 같으면 내용이 같으므로 미리 직렬화한 본문을 그대로 보낸다.
+     */
+    @GetMapping(RequestLinks.INDEX)
+    public ResponseEntity<?> index(WebRequest webRequest) {
+        return halDocumentCache.respond(RequestLinks.INDEX, webRequest, () -> {
+            var index = new RepresentationModel<>();
+            index.add(RequestLinks.events().withRel("events"));
+            return index;
+        });
     }
 }
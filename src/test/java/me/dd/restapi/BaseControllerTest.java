@@ -11,11 +11,13 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import me.dd.restapi.common.RestDocsConfiguration;
+import me.dd.restapi.common.StatementCounter;
+import me.dd.restapi.common.StatementRecorder;
 
-@SpringBootTest
+@SpringBootTest(properties = StatementRecorder.PROPERTY)
 @AutoConfigureMockMvc
 @AutoConfigureRestDocs
-@Import(RestDocsConfiguration.class)
+@Import({RestDocsConfiguration.class, StatementCounter.class})
 @ActiveProfiles("test")
 @Disabled
 public class BaseControllerTest {
@@ -24,4 +26,7 @@ public class BaseControllerTest {
 
     @Autowired
     protected ObjectMapper objectMapper;
+
+    @Autowired
+    protected StatementCounter statementCounter;
 }
@@ -2,6 +2,7 @@ package me.dd.restapi.accounts;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.HashSet;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +30,9 @@ class AccountServiceTest {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    UserDetailsCache userDetailsCache;
+
     @Test
     @DisplayName("유저이름으로 유저를 찾는다")
     public void findByUsername() throws Exception {
@@ -62,4 +66,49 @@ class AccountServiceTest {
             .hasMessageContaining(username);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("같은 유저를 다시 찾으면 캐시에서 가져온다")
+    public void findByUsernameFromCache() throws Exception {
+        // Given
+        String username = "cache@gmail.com";
+        Account account = Account.builder()
+            .email(username)
+            .password("pass")
+            .roles(Set.of(AccountRole.USER))
+            .build();
+        accountService.saveAccount(account);
+        long hitCount = userDetailsCache.stats().hitCount();
+
+        // When
+        UserDetails first = accountService.loadUserByUsername(username);
+        UserDetails second = accountService.loadUserByUsername(" Cache@Gmail.com ");
+
+        // Then
+        assertThat(userDetailsCache.stats().hitCount()).isEqualTo(hitCount + 1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getUsername()).isEqualTo(username);
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("유저를 저장하면 캐시된 정보를 지운다")
+    public void saveAccountEvictsCache() throws Exception {
+        // Given
+        String username = "evict@gmail.com";
+        Account account = Account.builder()
+            .email(username)
+            .password("pass")
+            .roles(new HashSet<>(Set.of(AccountRole.USER)))
+            .build();
+        accountService.saveAccount(account);
+        accountService.loadUserByUsername(username);
+
+        // When
+        account.setPassword("newPass");
+        accountService.saveAccount(account);
+        UserDetails userDetails = accountService.loadUserByUsername(username);
+
+        // Then
+        assertThat(this.passwordEncoder.matches("newPass", userDetails.getPassword())).isTrue();
+    }
+}
@@ -0,0 +1,17 @@
+package me.dd.restapi.common;
+
+import org.springframework.boot.test.context.TestComponent;
+
+/**
+ * 작업 하나가 실행한 SQL 문장 수를 센다. 엔드포인트별 상한을 검증해서 N+1 쿼리가 다시 생기지 않도록 한다.
+ * SessionFactory 전체의 통계가 아니라 {@link StatementRecorder} 로 현재 스레드의 문장만 세므로,
+ * 같은 컨텍스트를 쓰는 다른 테스트나 백그라운드 스레드가 실행한 문장은 섞이지 않는다.
+ * MockMvc 요청은 테스트 스레드에서 처리되므로 요청이 실행한 문장도 여기에 들어간다.
+ */
+@TestComponent
+public class StatementCounter {
+
+    public long count(StatementRecorder.Action action) throws Exception {
+        return StatementRecorder.record(action).size();
+    }
+}
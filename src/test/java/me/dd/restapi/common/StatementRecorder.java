@@ -0,0 +1,52 @@
+package me.dd.restapi.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실제로 만든 SQL 을 현재 스레드에서 실행한 작업의 것만 모은다.
+ * 테스트 클래스가 {@link #PROPERTY} 로 hibernate.session_factory.statement_inspector 에 등록하며, 같은 컨텍스트를 쓰는 다른 테스트나
+ * 백그라운드 스레드(전환 스케줄러, 신청 기록 등)의 문장은 섞이지 않는다.
+ */
+public class StatementRecorder implements StatementInspector {
+
+    /**
+     * 이 클래스는 테스트 클래스패스에만 있으므로 공유 프로파일이 아니라 쓰는 테스트의 @SpringBootTest properties 로 등록한다.
+     */
+    public static final String PROPERTY =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=me.dd.restapi.common.StatementRecorder";
+
+    private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+    public static List<String> record(Action action) throws Exception {
+        List<String> previous = RECORDING.get();
+        List<String> statements = new ArrayList<>();
+        RECORDING.set(statements);
+        try {
+            action.run();
+        } finally {
+            RECORDING.set(previous);
+        }
+        if (Objects.nonNull(previous)) {
+            previous.addAll(statements);
+        }
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = RECORDING.get();
+        if (Objects.nonNull(statements)) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
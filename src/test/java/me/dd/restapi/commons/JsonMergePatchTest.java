@@ -0,0 +1,46 @@
+package me.dd.restapi.commons;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class JsonMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @DisplayName("RFC 7386 의 예시")
+    @CsvSource(value = {
+        "{`a`:`b`}|{`a`:`c`}|{`a`:`c`}",
+        "{`a`:`b`}|{`b`:`c`}|{`a`:`b`,`b`:`c`}",
+        "{`a`:`b`}|{`a`:null}|{}",
+        "{`a`:`b`,`b`:`c`}|{`a`:null}|{`b`:`c`}",
+        "{`a`:[`b`]}|{`a`:`c`}|{`a`:`c`}",
+        "{`a`:`c`}|{`a`:[`b`]}|{`a`:[`b`]}",
+        "{`a`:{`b`:`c`}}|{`a`:{`b`:`d`,`c`:null}}|{`a`:{`b`:`d`}}",
+        "{`a`:[{`b`:`c`}]}|{`a`:[1]}|{`a`:[1]}",
+        "[`a`,`b`]|[`c`,`d`]|[`c`,`d`]",
+        "{`a`:`b`}|[`c`]|[`c`]",
+        "{`a`:`foo`}|null|null",
+        "{`a`:`foo`}|`bar`|`bar`",
+        "{`e`:null}|{`a`:1}|{`e`:null,`a`:1}",
+        "[1,2]|{`a`:`b`,`c`:null}|{`a`:`b`}",
+        "{}|{`a`:{`bb`:{`ccc`:null}}}|{`a`:{`bb`:{}}}"
+    }, delimiter = '|')
+    void apply(String target, String patch, String expected) throws Exception {
+        // When
+        JsonNode result = JsonMergePatch.apply(json(target), json(patch));
+
+        // Then
+        assertThat(result).isEqualTo(json(expected));
+    }
+
+    private JsonNode json(String value) throws Exception {
+        return objectMapper.readTree(value.replace('`', '"'));
+    }
+}
@@ -0,0 +1,81 @@
+package me.dd.restapi.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final PasswordEncoder slowEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "{noop}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("{noop}" + rawPassword);
+        }
+    };
+
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slowEncoder, 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("해싱 풀과 대기열이 가득 차면 기다리지 않고 거절한다")
+    void rejectWhenSaturated() throws Exception {
+        // Given
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        while (encoder.getQueueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When && Then
+        assertThatThrownBy(() -> encoder.matches("third", "{noop}third"))
+            .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(encoder.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("{noop}first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("{noop}second");
+        assertThat(encoder.matches("third", "{noop}third")).isTrue();
+        assertThat(encoder.getCompletedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실패한 해싱은 처리 시간에 넣지 않고 실패로 센다")
+    void countFailuresSeparately() {
+        // When
+        assertThatThrownBy(() -> encoder.matches("first", null))
+            .isInstanceOf(NullPointerException.class);
+        release.countDown();
+        encoder.encode("second");
+
+        // Then
+        assertThat(encoder.getFailedCount()).isEqualTo(1);
+        assertThat(encoder.getCompletedCount()).isEqualTo(1);
+    }
+}
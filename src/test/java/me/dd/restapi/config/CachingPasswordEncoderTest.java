@@ -0,0 +1,51 @@
+package me.dd.restapi.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class CachingPasswordEncoderTest {
+
+    private final AtomicInteger matchCount = new AtomicInteger();
+
+    @SuppressWarnings("deprecation")
+    private final PasswordEncoder countingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return NoOpPasswordEncoder.getInstance().encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            matchCount.incrementAndGet();
+            return NoOpPasswordEncoder.getInstance().matches(rawPassword, encodedPassword);
+        }
+    };
+
+    private final CachingPasswordEncoder encoder =
+        new CachingPasswordEncoder(countingEncoder, Duration.ofMinutes(1), 10);
+
+    @Test
+    @DisplayName("성공한 검증은 캐시해서 다시 계산하지 않는다")
+    void cacheSuccessfulMatch() {
+        assertThat(encoder.matches("pass", "pass")).isTrue();
+        assertThat(encoder.matches("pass", "pass")).isTrue();
+
+        assertThat(matchCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 검증은 캐시하지 않는다")
+    void notCacheFailedMatch() {
+        assertThat(encoder.matches("wrong", "pass")).isFalse();
+        assertThat(encoder.matches("wrong", "pass")).isFalse();
+
+        assertThat(matchCount.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,109 @@
+package me.dd.restapi.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.test.context.TestPropertySource;
+
+import com.jayway.jsonpath.JsonPath;
+import me.dd.restapi.BaseControllerTest;
+import me.dd.restapi.accounts.Account;
+import me.dd.restapi.accounts.AccountRole;
+import me.dd.restapi.accounts.AccountService;
+
+@TestPropertySource(properties = {
+    "app.security.token-mode=jwt",
+    "app.security.jwt.signing-key=test-signing-key",
+    "spring.datasource.url=jdbc:h2:mem:jwtdb",
+    "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:jwtdb"
+})
+class JwtTokenConfigTest extends BaseControllerTest {
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    TokenStore tokenStore;
+
+    @Test
+    @DisplayName("서명된 토큰을 발급받아 저장소 조회 없이 API 를 호출한다")
+    public void getJwtToken() throws Exception {
+        // Given
+        String username = "jwt@gmail.com";
+        String password = "pass";
+        saveAccount(username, password);
+
+        // When
+        String response = this.mockMvc.perform(post("/oauth/token")
+            .with(httpBasic("myApp", "pass"))
+            .param("username", username)
+            .param("password", password)
+            .param("grant_type", "password"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        String accessToken = JsonPath.read(response, "access_token");
+
+        // Then
+        assertThat(tokenStore).isInstanceOf(RevocableJwtTokenStore.class);
+        assertThat(accessToken.split("\\.")).hasSize(3);
+        this.mockMvc.perform(get("/api/")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+            .andExpect(status().isOk());
+        this.mockMvc.perform(get("/api/")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken + "x"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("사용한 리프레시 토큰은 폐기되어 다시 사용할 수 없다")
+    public void revokeUsedRefreshToken() throws Exception {
+        // Given
+        String username = "refresh@gmail.com";
+        String password = "pass";
+        saveAccount(username, password);
+        String response = this.mockMvc.perform(post("/oauth/token")
+            .with(httpBasic("myApp", "pass"))
+            .param("username", username)
+            .param("password", password)
+            .param("grant_type", "password"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        String refreshToken = JsonPath.read(response, "refresh_token");
+
+        // When
+        this.mockMvc.perform(post("/oauth/token")
+            .with(httpBasic("myApp", "pass"))
+            .param("refresh_token", refreshToken)
+            .param("grant_type", "refresh_token"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("access_token").exists());
+
+        // Then
+        this.mockMvc.perform(post("/oauth/token")
+            .with(httpBasic("myApp", "pass"))
+            .param("refresh_token", refreshToken)
+            .param("grant_type", "refresh_token"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private void saveAccount(String username, String password) {
+        Account account = Account.builder()
+            .email(username)
+            .password(password)
+            .roles(Set.of(AccountRole.USER))
+            .build();
+        accountService.saveAccount(account);
+    }
+}
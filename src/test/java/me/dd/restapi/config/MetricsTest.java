@@ -0,0 +1,138 @@
+package me.dd.restapi.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.validation.BeanPropertyBindingResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.dd.restapi.BaseControllerTest;
+import me.dd.restapi.accounts.Account;
+import me.dd.restapi.accounts.AccountRole;
+import me.dd.restapi.accounts.AccountService;
+import me.dd.restapi.events.EventDto;
+import me.dd.restapi.events.EventMapper;
+import me.dd.restapi.events.EventValidator;
+
+class MetricsTest extends BaseControllerTest {
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    EventMapper eventMapper;
+
+    @Autowired
+    EventValidator eventValidator;
+
+    @Test
+    @DisplayName("인증 없이 prometheus 메트릭을 조회")
+    public void scrapePrometheus() throws Exception {
+        this.mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds")))
+            .andExpect(content().string(containsString("hibernate_second_level_cache_requests")))
+            .andExpect(content().string(containsString("cache_gets_total{cache=\"userDetails\"")))
+            .andExpect(content().string(containsString("security_password_hashing_queue")));
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 다른 actuator 엔드포인트를 조회할 수 없음")
+    public void metricsEndpointRequiresAdmin() throws Exception {
+        this.mockMvc.perform(get("/actuator/metrics"))
+            .andExpect(status().is3xxRedirection());
+    }
+
+    @Test
+    @DisplayName("토큰 발급 시간과 인증 시간을 grant_type, 결과별로 기록")
+    public void tokenIssueMetrics() throws Exception {
+        // Given
+        String username = "metrics@dd.me";
+        String password = "metrics";
+        accountService.saveAccount(Account.builder()
+            .email(username)
+            .password(password)
+            .roles(Set.of(AccountRole.USER))
+            .build());
+
+        // When
+        this.mockMvc.perform(post("/oauth/token")
+            .with(httpBasic("myApp", "pass"))
+            .param("username", username)
+            .param("password", password)
+            .param("grant_type", "password"))
+            .andExpect(status().isOk());
+        this.mockMvc.perform(post("/oauth/token")
+            .with(httpBasic("myApp", "pass"))
+            .param("username", username)
+            .param("password", "wrong")
+            .param("grant_type", "password"))
+            .andExpect(status().isBadRequest());
+
+        // Then
+        assertTrue(meterRegistry.get("security.token.issue")
+            .tags("grant_type", "password", "outcome", "SUCCESS").timer().count() >= 1);
+        assertTrue(meterRegistry.get("security.token.issue")
+            .tags("grant_type", "password", "outcome", "CLIENT_ERROR").timer().count() >= 1);
+        assertTrue(meterRegistry.get("security.authentication")
+            .tags("outcome", "success").timer().count() >= 1);
+        assertTrue(meterRegistry.get("security.authentication")
+            .tags("outcome", "failure", "exception", "BadCredentialsException").timer().count() >= 1);
+        assertTrue(meterRegistry.get("accounts.user-details.load").timer().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("인증 중 인증 실패가 아닌 예외가 나도 failure 로 기록")
+    public void authenticationErrorMetrics() {
+        // Given
+        TimedAuthenticationManager authenticationManager = new TimedAuthenticationManager(authentication -> {
+            throw new IllegalStateException("user store unavailable");
+        }, meterRegistry);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> authenticationManager.authenticate(
+            new UsernamePasswordAuthenticationToken("metrics@dd.me", "metrics")));
+
+        // Then
+        assertEquals(1, meterRegistry.get("security.authentication")
+            .tags("outcome", "failure", "exception", "IllegalStateException").timer().count());
+    }
+
+    @Test
+    @DisplayName("이벤트 매핑과 검증 시간을 기록")
+    public void mappingAndValidationMetrics() {
+        // Given
+        EventDto eventDto = EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2020, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2020, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2020, 6, 8, 12, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .build();
+
+        // When
+        eventValidator.validate(eventDto, new BeanPropertyBindingResult(eventDto, "eventDto"));
+        eventMapper.toEvent(eventDto);
+
+        // Then
+        assertTrue(meterRegistry.get("events.validation").timer().count() >= 1);
+        assertTrue(meterRegistry.get("events.mapping").tags("method", "toEvent").timer().count() >= 1);
+    }
+}
@@ -0,0 +1,171 @@
+package me.dd.restapi.enrollments;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+import me.dd.restapi.BaseControllerTest;
+import me.dd.restapi.accounts.Account;
+import me.dd.restapi.accounts.AccountRepository;
+import me.dd.restapi.accounts.AccountRole;
+import me.dd.restapi.events.Event;
+import me.dd.restapi.events.EventRepository;
+import me.dd.restapi.events.EventStatus;
+
+class EnrollmentControllerTest extends BaseControllerTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    EnrollmentWriter enrollmentWriter;
+
+    @Test
+    @DisplayName("등록 중인 이벤트에 신청하면 Created, 다시 신청하면 OK")
+    void enroll() throws Exception {
+        // Given
+        Event event = generateEvent(EventStatus.BEGAN_ENROLLMENT, 10);
+        generateAccount("enroll@dd.me");
+
+        // When & Then
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId())
+            .with(user("enroll@dd.me"))
+            .with(csrf()))
+            .andDo(print())
+            .andExpect(status().isCreated())
+            .andExpect(header().exists(HttpHeaders.LOCATION))
+            .andExpect(jsonPath("eventId").value(event.getId()))
+            .andExpect(jsonPath("enrolled").value(1))
+            .andExpect(jsonPath("limitOfEnrollment").value(10))
+            .andExpect(jsonPath("_links.self").exists())
+            .andExpect(jsonPath("_links.event").exists())
+            .andExpect(jsonPath("_links.cancel-enrollment").exists())
+            .andExpect(jsonPath("_links.profile").exists())
+            .andDo(document("create-enrollment"));
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId())
+            .with(user("enroll@dd.me"))
+            .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("enrolled").value(1));
+
+        awaitWritten();
+        assertThat(enrollmentRepository.countByIdEventId(event.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좌석이 다 찬 이벤트에 신청하면 Conflict")
+    void enrollFullEvent() throws Exception {
+        // Given
+        Event event = generateEvent(EventStatus.BEGAN_ENROLLMENT, 1);
+        generateAccount("first@dd.me");
+        generateAccount("second@dd.me");
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId())
+            .with(user("first@dd.me"))
+            .with(csrf()))
+            .andExpect(status().isCreated());
+
+        // When & Then
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId())
+            .with(user("second@dd.me"))
+            .with(csrf()))
+            .andDo(print())
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("content[0].code").value("full"));
+    }
+
+    @Test
+    @DisplayName("등록 중이 아닌 이벤트에 신청하면 Conflict, 없는 이벤트는 NotFound")
+    void enrollClosedEvent() throws Exception {
+        // Given
+        Event event = generateEvent(EventStatus.PUBLISHED, 10);
+        generateAccount("closed@dd.me");
+
+        // When & Then
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId())
+            .with(user("closed@dd.me"))
+            .with(csrf()))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("content[0].code").value("closed"));
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", 53982750)
+            .with(user("closed@dd.me"))
+            .with(csrf()))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("신청을 취소하면 NoContent 이고 좌석이 돌아온다")
+    void cancel() throws Exception {
+        // Given
+        Event event = generateEvent(EventStatus.BEGAN_ENROLLMENT, 1);
+        generateAccount("cancel@dd.me");
+        generateAccount("next@dd.me");
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId())
+            .with(user("cancel@dd.me"))
+            .with(csrf()))
+            .andExpect(status().isCreated());
+
+        // When
+        this.mockMvc.perform(delete("/api/events/{id}/enrollments", event.getId())
+            .with(user("cancel@dd.me"))
+            .with(csrf()))
+            .andDo(print())
+            .andExpect(status().isNoContent());
+
+        // Then
+        this.mockMvc.perform(delete("/api/events/{id}/enrollments", event.getId())
+            .with(user("cancel@dd.me"))
+            .with(csrf()))
+            .andExpect(status().isNotFound());
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId())
+            .with(user("next@dd.me"))
+            .with(csrf()))
+            .andExpect(status().isCreated());
+        awaitWritten();
+        assertThat(enrollmentRepository.findAll())
+            .filteredOn(enrollment -> enrollment.getId().getEventId().equals(event.getId()))
+            .extracting(enrollment -> enrollment.getId().getAccountId())
+            .containsExactly(accountRepository.findIdByEmail("next@dd.me").orElseThrow());
+    }
+
+    private void awaitWritten() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (enrollmentWriter.pending() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(enrollmentWriter.pending()).isZero();
+    }
+
+    private Event generateEvent(EventStatus eventStatus, int limitOfEnrollment) {
+        return this.eventRepository.save(Event.builder()
+            .name("enrollment event")
+            .description("test Event")
+            .limitOfEnrollment(limitOfEnrollment)
+            .eventStatus(eventStatus)
+            .build());
+    }
+
+    private void generateAccount(String email) {
+        this.accountRepository.save(Account.builder()
+            .email(email)
+            .password("pass")
+            .roles(new HashSet<>(Set.of(AccountRole.USER)))
+            .build());
+    }
+}
@@ -0,0 +1,246 @@
+package me.dd.restapi.enrollments;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import me.dd.restapi.BaseControllerTest;
+import me.dd.restapi.accounts.Account;
+import me.dd.restapi.accounts.AccountRepository;
+import me.dd.restapi.accounts.AccountRole;
+import me.dd.restapi.events.Event;
+import me.dd.restapi.events.EventRepository;
+import me.dd.restapi.events.EventStatus;
+
+/**
+ * 여러 스레드가 동시에 신청, 취소해도 좌석 수를 넘지 않고 메모리와 DB 의 신청 기록이 같아지는지 확인한다.
+ */
+class EnrollmentStressTest extends BaseControllerTest {
+
+    private static final int THREADS = 32;
+    private static final int ACCOUNTS = 1000;
+    private static final int LIMIT = 100;
+
+    @Autowired
+    EnrollmentService enrollmentService;
+
+    @Autowired
+    EnrollmentSeats enrollmentSeats;
+
+    @Autowired
+    EnrollmentWriter enrollmentWriter;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final List<String> emails = new ArrayList<>();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = "stress" + System.nanoTime() + "-";
+        List<Account> accounts = IntStream.range(0, ACCOUNTS)
+            .mapToObj(i -> Account.builder()
+                .email(prefix + i + "@dd.me")
+                .password("pass")
+                .roles(new HashSet<>(Set.of(AccountRole.USER)))
+                .build())
+            .collect(Collectors.toList());
+        accountRepository.saveAll(accounts).forEach(account -> emails.add(account.getEmail()));
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("계정 1000개가 좌석 100개에 동시에 신청하면 정확히 100개만 신청된다")
+    void noOversellingUnderContention() throws Exception {
+        // Given
+        Event event = generateEvent();
+        CountDownLatch start = new CountDownLatch(1);
+        Map<EnrollmentResult, AtomicInteger> results = new ConcurrentHashMap<>();
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (String email : emails) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                EnrollmentResult result = enrollmentService.enroll(event.getId(), email);
+                results.computeIfAbsent(result, r -> new AtomicInteger()).incrementAndGet();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertThat(results.get(EnrollmentResult.ENROLLED)).hasValue(LIMIT);
+        assertThat(results.get(EnrollmentResult.FULL)).hasValue(ACCOUNTS - LIMIT);
+        assertThat(enrollmentSeats.taken(event.getId())).isEqualTo(LIMIT);
+        awaitWritten();
+        assertThat(enrollmentRepository.countByIdEventId(event.getId())).isEqualTo(LIMIT);
+    }
+
+    @Test
+    @DisplayName("신청과 취소가 섞여도 좌석 수를 넘지 않고 DB 와 메모리의 신청자가 같다")
+    void noOversellingWithCancellations() throws Exception {
+        // Given
+        Event event = generateEvent();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger maxTaken = new AtomicInteger();
+        Map<EnrollmentResult, AtomicInteger> results = new EnumMap<>(EnrollmentResult.class);
+        for (EnrollmentResult result : EnrollmentResult.values()) {
+            results.put(result, new AtomicInteger());
+        }
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 500; i++) {
+                    String email = emails.get(random.nextInt(200));
+                    EnrollmentResult result = random.nextInt(3) == 0
+                        ? enrollmentService.cancel(event.getId(), email)
+                        : enrollmentService.enroll(event.getId(), email);
+                    results.get(result).incrementAndGet();
+                    maxTaken.accumulateAndGet(enrollmentSeats.taken(event.getId()), Math::max);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+
+        // Then
+        int taken = enrollmentSeats.taken(event.getId());
+        assertThat(maxTaken.get()).isLessThanOrEqualTo(LIMIT);
+        assertThat(results.get(EnrollmentResult.CANCELLED).get()).isPositive();
+        assertThat(results.get(EnrollmentResult.BUSY).get()).isZero();
+        assertThat(taken).isEqualTo(results.get(EnrollmentResult.ENROLLED).get()
+            - results.get(EnrollmentResult.CANCELLED).get());
+        awaitWritten();
+        assertThat(enrollmentRepository.countByIdEventId(event.getId())).isEqualTo(taken);
+    }
+
+    @Test
+    @DisplayName("DB 에 쓰인 신청 기록으로 좌석 수를 다시 맞춘다")
+    void reconcile() {
+        // Given
+        Event event = generateEvent();
+        List<Integer> accountIds = emails.stream()
+            .limit(30)
+            .map(email -> accountRepository.findIdByEmail(email).orElseThrow())
+            .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("insert into enrollment (event_id, account_id, enrolled_at)"
+                + " values (?, ?, current_timestamp)", accountIds, accountIds.size(),
+            (ps, accountId) -> {
+                ps.setInt(1, event.getId());
+                ps.setInt(2, accountId);
+            });
+
+        // When
+        enrollmentSeats.reconcile();
+
+        // Then
+        assertThat(enrollmentSeats.taken(event.getId())).isEqualTo(30);
+        assertThat(enrollmentSeats.limit(event.getId())).isEqualTo(LIMIT);
+        assertThat(enrollmentService.enroll(event.getId(), emails.get(0)))
+            .isEqualTo(EnrollmentResult.ALREADY_ENROLLED);
+    }
+
+    @Test
+    @DisplayName("기록하지 못한 취소는 신청자와 좌석을 되돌린다")
+    void restoreFailedCancel() throws Exception {
+        // Given
+        Event event = generateEvent();
+        assertThat(enrollmentService.enroll(event.getId(), emails.get(0))).isEqualTo(EnrollmentResult.ENROLLED);
+        assertThat(enrollmentService.cancel(event.getId(), emails.get(0))).isEqualTo(EnrollmentResult.CANCELLED);
+        awaitWritten();
+        Integer accountId = accountRepository.findIdByEmail(emails.get(0)).orElseThrow();
+
+        // When
+        enrollmentSeats.restore(event.getId(), accountId);
+        enrollmentSeats.restore(event.getId(), accountId);
+
+        // Then
+        assertThat(enrollmentSeats.taken(event.getId())).isEqualTo(1);
+        assertThat(enrollmentService.enroll(event.getId(), emails.get(0)))
+            .isEqualTo(EnrollmentResult.ALREADY_ENROLLED);
+    }
+
+    @Test
+    @DisplayName("등록이 끝난 이벤트의 좌석은 메모리에서 지운다")
+    void dropClosedEvent() throws Exception {
+        // Given
+        Event event = generateEvent();
+        assertThat(enrollmentService.enroll(event.getId(), emails.get(0))).isEqualTo(EnrollmentResult.ENROLLED);
+        awaitWritten();
+
+        // When
+        event.setEventStatus(EventStatus.PUBLISHED);
+        eventRepository.save(event);
+        enrollmentSeats.update(event.getId(), EventStatus.PUBLISHED, LIMIT);
+
+        // Then
+        assertThat(enrollmentSeats.taken(event.getId())).isZero();
+        assertThat(enrollmentSeats.limit(event.getId())).isZero();
+        assertThat(enrollmentService.enroll(event.getId(), emails.get(1))).isEqualTo(EnrollmentResult.CLOSED);
+    }
+
+    private void awaitWritten() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (enrollmentWriter.pending() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(enrollmentWriter.pending()).isZero();
+    }
+
+    private Event generateEvent() {
+        return eventRepository.save(Event.builder()
+            .name("popular event")
+            .description("stress")
+            .limitOfEnrollment(LIMIT)
+            .eventStatus(EventStatus.BEGAN_ENROLLMENT)
+            .build());
+    }
+}
@@ -1,30 +1,48 @@
 package me.dd.restapi.events;
 
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
 import static org.springframework.hateoas.MediaTypes.*;
 import static org.springframework.http.MediaType.*;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.jayway.jsonpath.JsonPath;
 
 import me.dd.restapi.BaseControllerTest;
+import me.dd.restapi.accounts.Account;
+import me.dd.restapi.accounts.AccountRepository;
+import me.dd.restapi.accounts.AccountRole;
+import me.dd.restapi.commons.JsonMergePatch;
 
 public class EventControllerTest extends BaseControllerTest {
 
     @Autowired
     EventRepository eventRepository;
 
+    @Autowired
+    AccountRepository accountRepository;
+
     @Test
     @DisplayName("정상적인 입력을 받는 경우")
     void createEvent() throws Exception {
@@ -212,6 +230,614 @@ public class EventControllerTest extends BaseControllerTest {
             .andDo(document("query-events"));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("여러 이벤트를 한번에 생성하면서 잘못된 입력은 인덱스별로 알려주기")
+    void createEvents() throws Exception {
+        //Given
+        EventDto event = EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2020, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2020, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2020, 6, 8, 12, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("강남역 D2 스타트업 팩토리")
+            .build();
+        EventDto emptyEvent = EventDto.builder().build();
+        EventDto wrongPriceEvent = EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2020, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2020, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2020, 6, 8, 12, 0))
+            .basePrice(10000)
+            .maxPrice(100)
+            .build();
+
+        //When && Then
+        mockMvc.perform(post("/api/events/batch")
+            .with(csrf())
+            .contentType(APPLICATION_JSON_VALUE)
+            .accept(HAL_JSON)
+            .content(objectMapper.writeValueAsString(List.of(event, emptyEvent, event, wrongPriceEvent))))
+            .andDo(print())
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("events.length()").value(2))
+            .andExpect(jsonPath("events[0].id").exists())
+            .andExpect(jsonPath("events[0].free").value(false))
+            .andExpect(jsonPath("events[0].offline").value(true))
+            .andExpect(jsonPath("events[0]._links.self.href").value(matchesPattern(".*/api/events/\\d+")))
+            .andExpect(jsonPath("errors.1").exists())
+            .andExpect(jsonPath("errors.3[0].field").value("basePrice"))
+            .andExpect(jsonPath("errors.0").doesNotExist())
+            .andExpect(jsonPath("_links.query-events").exists())
+            .andDo(document("create-events"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("최대 개수보다 많은 이벤트를 한번에 생성하면 아무것도 저장하지 않고 413 응답받기")
+    void createEventsTooMany() throws Exception {
+        //Given
+        EventDto event = EventDto.builder()
+            .name("too many events")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2038, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2038, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2038, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2038, 6, 8, 12, 0))
+            .build();
+
+        //When && Then
+        mockMvc.perform(post("/api/events/batch")
+            .with(csrf())
+            .contentType(APPLICATION_JSON_VALUE)
+            .accept(HAL_JSON)
+            .content(objectMapper.writeValueAsString(Collections.nCopies(1001, event))))
+            .andExpect(status().isPayloadTooLarge());
+        assertThat(eventRepository.findAll(EventSpecifications.of(EventSearchCondition.builder()
+            .eventFrom(LocalDateTime.of(2038, 6, 7, 0, 0))
+            .eventTo(LocalDateTime.of(2038, 6, 8, 0, 0))
+            .build()))).isEmpty();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("30개의 이벤트를 커서로 10개씩 조회하기")
+    void queryEventsByCursor() throws Exception {
+        //Given
+        this.eventRepository.deleteAll();
+        IntStream.range(0, 30).forEach(i -> {
+            this.generateEvent(i);
+        });
+
+        //When
+        MvcResult first = this.mockMvc.perform(get("/api/events")
+            .param("after", "")
+            .param("size", "10")
+            .param("sort", "name,DESC"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page").doesNotExist())
+            .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+            .andExpect(jsonPath("_embedded.eventList[0].name").value("event 9"))
+            .andExpect(jsonPath("_links.next").exists())
+            .andExpect(jsonPath("_links.prev").doesNotExist())
+            .andExpect(jsonPath("_links.profile").exists())
+            .andDo(document("query-events-cursor"))
+            .andReturn();
+
+        MvcResult second = this.mockMvc.perform(get(linkOf(first, "next")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+            .andExpect(jsonPath("_embedded.eventList[0].name").value("event 26"))
+            .andExpect(jsonPath("_links.next").exists())
+            .andExpect(jsonPath("_links.prev").exists())
+            .andReturn();
+
+        //Then
+        this.mockMvc.perform(get(linkOf(second, "prev")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+            .andExpect(jsonPath("_embedded.eventList[0].name").value("event 9"))
+            .andExpect(jsonPath("_embedded.eventList[9].name").value("event 27"))
+            .andExpect(jsonPath("_links.next").exists())
+            .andExpect(jsonPath("_links.prev").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("COUNT 없이 30개의 이벤트를 10개씩 두번째 페이지 조회하기")
+    void queryEventSlice() throws Exception {
+        //Given
+        IntStream.range(0, 30).forEach(i -> {
+            this.generateEvent(i);
+        });
+
+        //When && Then
+        this.mockMvc.perform(get("/api/events")
+            .param("slice", "true")
+            .param("page", "1")
+            .param("size", "10")
+            .param("sort", "name,DESC"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page.number").value(1))
+            .andExpect(jsonPath("page.hasNext").value(true))
+            .andExpect(jsonPath("page.totalElements").doesNotExist())
+            .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+            .andExpect(jsonPath("_links.next").exists())
+            .andExpect(jsonPath("_links.prev").exists())
+            .andExpect(jsonPath("_links.profile").exists())
+            .andDo(document("query-events-slice"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("COUNT 없이 조회하면서 추정 개수를 요청하기")
+    void queryEventSliceWithEstimatedTotal() throws Exception {
+        //Given
+        this.generateEvent(0);
+
+        //When && Then
+        this.mockMvc.perform(get("/api/events")
+            .param("slice", "true")
+            .param("total", "true"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page.totalElements").exists())
+            .andExpect(jsonPath("page.estimated").value(true));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("잘못된 커서로 조회하는 경우 BadRequest")
+    void queryEventsByWrongCursor() throws Exception {
+        this.mockMvc.perform(get("/api/events")
+            .param("after", "not-a-cursor"))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("상태와 가격, 이벤트 시작 시각으로 걸러서 이벤트 목록 조회하기")
+    void queryEventsWithFilter() throws Exception {
+        //Given
+        LocalDateTime beginEventDateTime = LocalDateTime.of(2031, 3, 1, 10, 0);
+        IntStream.range(0, 10).forEach(i -> {
+            this.eventRepository.save(Event.builder()
+                .name("filtered event " + i)
+                .eventStatus(i % 2 == 0 ? EventStatus.PUBLISHED : EventStatus.DRAFT)
+                .basePrice(i * 100)
+                .beginEventDateTime(beginEventDateTime.plusDays(i))
+                .build());
+        });
+
+        //When && Then
+        this.mockMvc.perform(get("/api/events")
+            .param("eventStatus", "PUBLISHED")
+            .param("minPrice", "200")
+            .param("eventFrom", "2031-03-01T00:00:00")
+            .param("eventTo", "2031-03-08T00:00:00"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page.totalElements").value(3))
+            .andExpect(jsonPath("_embedded.eventList[*].name",
+                containsInAnyOrder("filtered event 2", "filtered event 4", "filtered event 6")));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("잘못된 필터 값으로 조회하는 경우 BadRequest")
+    void queryEventsWithWrongFilter() throws Exception {
+        this.mockMvc.perform(get("/api/events")
+            .param("eventStatus", "UNKNOWN"))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("생성한 이벤트를 등록 중인 이벤트 목록에서 조회하기")
+    void queryEnrollingEvents() throws Exception {
+        //Given
+        EventDto eventDto = EventDto.builder()
+            .name("enrolling event")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2033, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2033, 6, 9, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2033, 6, 10, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2033, 6, 11, 12, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .build();
+        mockMvc.perform(post("/api/events")
+            .with(csrf())
+            .contentType(APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(eventDto)))
+            .andExpect(status().isCreated());
+
+        //When && Then
+        this.mockMvc.perform(get("/api/events/enrolling")
+            .param("at", "2033-06-07T00:00:00"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("_embedded.eventList.length()").value(1))
+            .andExpect(jsonPath("_embedded.eventList[0].name").value("enrolling event"))
+            .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+            .andExpect(jsonPath("_links.profile").exists())
+            .andDo(document("query-events-enrolling"));
+
+        this.mockMvc.perform(get("/api/events/happening")
+            .param("from", "2033-06-11T00:00:00")
+            .param("to", "2033-06-12T00:00:00"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("_embedded.eventList[0].name").value("enrolling event"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("끝이 시작보다 앞선 구간으로 진행 중인 이벤트를 조회하는 경우 BadRequest")
+    void queryHappeningEventsWithWrongRange() throws Exception {
+        this.mockMvc.perform(get("/api/events/happening")
+            .param("from", "2033-06-12T00:00:00")
+            .param("to", "2033-06-11T00:00:00"))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("조건에 맞는 이벤트를 NDJSON 으로 내보내기")
+    void exportEventsAsNdjson() throws Exception {
+        //Given
+        IntStream.range(0, 3).forEach(i -> {
+            this.eventRepository.save(Event.builder()
+                .name("exported event " + i)
+                .description("export")
+                .basePrice(4321)
+                .beginEventDateTime(LocalDateTime.of(2034, 1, 1, 10, 0))
+                .build());
+        });
+
+        //When
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events/export")
+            .param("minPrice", "4321")
+            .param("maxPrice", "4321"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        //Then
+        String body = this.mockMvc.perform(asyncDispatch(mvcResult))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(JsonPath.<String>read(lines[0], "name")).isEqualTo("exported event 0");
+        assertThat(JsonPath.<String>read(lines[0], "beginEventDateTime")).isEqualTo("2034-01-01T10:00:00");
+        assertThat(JsonPath.<String>read(lines[2], "name")).isEqualTo("exported event 2");
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("이벤트를 CSV 로 내보내기")
+    void exportEventsAsCsv() throws Exception {
+        //Given
+        this.eventRepository.save(Event.builder()
+            .name("csv, \"quoted\" event")
+            .basePrice(8765)
+            .build());
+
+        //When
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events/export")
+            .param("format", "csv")
+            .param("minPrice", "8765")
+            .param("maxPrice", "8765"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        //Then
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(content().string(startsWith("id,name,description,")))
+            .andExpect(content().string(containsString(",\"csv, \"\"quoted\"\" event\",,")));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("지원하지 않는 형식으로 내보내는 경우 BadRequest")
+    void exportEventsWithWrongFormat() throws Exception {
+        this.mockMvc.perform(get("/api/events/export")
+            .param("format", "xml"))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("NDJSON 으로 이벤트를 가져오면서 잘못된 줄은 줄 번호와 함께 돌려받기")
+    void importEvents() throws Exception {
+        //Given
+        EventDto eventDto = EventDto.builder()
+            .name("imported event")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2035, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2035, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2035, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2035, 6, 8, 12, 0))
+            .basePrice(0)
+            .maxPrice(0)
+            .limitOfEnrollment(100)
+            .location("강남역 D2 스타트업 팩토리")
+            .build();
+        EventDto wrongPriceEvent = EventDto.builder()
+            .name("wrong price")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2035, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2035, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2035, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2035, 6, 8, 12, 0))
+            .basePrice(10000)
+            .maxPrice(100)
+            .build();
+        String body = String.join("\n",
+            objectMapper.writeValueAsString(eventDto),
+            "{not json",
+            objectMapper.writeValueAsString(wrongPriceEvent),
+            "",
+            objectMapper.writeValueAsString(eventDto));
+
+        //When
+        MvcResult mvcResult = this.mockMvc.perform(post("/api/events/import")
+            .with(csrf())
+            .contentType("application/x-ndjson")
+            .content(body))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        //Then
+        String response = this.mockMvc.perform(asyncDispatch(mvcResult))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andReturn().getResponse().getContentAsString();
+        List<String> lines = List.of(response.split("\n"));
+        assertThat(lines).hasSize(3);
+        assertThat(lines.subList(0, 2)).anySatisfy(line -> {
+            assertThat(JsonPath.<Integer>read(line, "line")).isEqualTo(2);
+            assertThat(JsonPath.<String>read(line, "errors[0].code")).isEqualTo("invalidJson");
+        });
+        assertThat(lines.subList(0, 2)).anySatisfy(line -> {
+            assertThat(JsonPath.<Integer>read(line, "line")).isEqualTo(3);
+            assertThat(JsonPath.<String>read(line, "errors[0].field")).isEqualTo("basePrice");
+        });
+        assertThat(JsonPath.<Integer>read(lines.get(2), "imported")).isEqualTo(2);
+        assertThat(JsonPath.<Integer>read(lines.get(2), "rejected")).isEqualTo(2);
+
+        List<Event> imported = eventRepository.findAll(EventSpecifications.of(EventSearchCondition.builder()
+            .eventFrom(LocalDateTime.of(2035, 6, 7, 0, 0))
+            .eventTo(LocalDateTime.of(2035, 6, 8, 0, 0))
+            .build()));
+        assertThat(imported).extracting(Event::getName).containsExactly("imported event", "imported event");
+        assertThat(imported).allSatisfy(event -> {
+            assertThat(event.isFree()).isTrue();
+            assertThat(event.getVersion()).isZero();
+        });
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("가져오다 쓰기가 실패하면 배치를 되돌리고 마지막 줄에 오류와 가져온 수를 쓴다")
+    void importEventsWithWriteFailure() throws Exception {
+        //Given
+        EventDto eventDto = EventDto.builder()
+            .name("rolled back event")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2037, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2037, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2037, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2037, 6, 8, 12, 0))
+            .limitOfEnrollment(100)
+            .build();
+        EventDto tooLongLocation = EventDto.builder()
+            .name("too long location")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2037, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2037, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2037, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2037, 6, 8, 12, 0))
+            .location("x".repeat(300))
+            .build();
+        String body = String.join("\n",
+            objectMapper.writeValueAsString(eventDto),
+            objectMapper.writeValueAsString(tooLongLocation),
+            objectMapper.writeValueAsString(eventDto));
+
+        //When
+        MvcResult mvcResult = this.mockMvc.perform(post("/api/events/import")
+            .with(csrf())
+            .contentType("application/x-ndjson")
+            .content(body))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        //Then
+        String response = this.mockMvc.perform(asyncDispatch(mvcResult))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        List<String> lines = List.of(response.split("\n"));
+        assertThat(lines).hasSize(1);
+        assertThat(JsonPath.<String>read(lines.get(0), "error")).startsWith("Failed to write imported events");
+        assertThat(JsonPath.<Integer>read(lines.get(0), "imported")).isZero();
+        assertThat(JsonPath.<Integer>read(lines.get(0), "rejected")).isEqualTo(3);
+        assertThat(eventRepository.findAll(EventSpecifications.of(EventSearchCondition.builder()
+            .eventFrom(LocalDateTime.of(2037, 6, 7, 0, 0))
+            .eventTo(LocalDateTime.of(2037, 6, 8, 0, 0))
+            .build()))).isEmpty();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("필요한 필드만 골라서 이벤트 목록 조회하기")
+    void queryEventsWithFields() throws Exception {
+        //Given
+        this.eventRepository.save(Event.builder()
+            .name("sparse event")
+            .description("long description")
+            .eventStatus(EventStatus.PUBLISHED)
+            .basePrice(6543)
+            .build());
+
+        //When && Then
+        this.mockMvc.perform(get("/api/events")
+            .param("fields", "name,eventStatus")
+            .param("minPrice", "6543")
+            .param("maxPrice", "6543"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page.totalElements").value(1))
+            .andExpect(jsonPath("_embedded.eventList[0].id").exists())
+            .andExpect(jsonPath("_embedded.eventList[0].name").value("sparse event"))
+            .andExpect(jsonPath("_embedded.eventList[0].eventStatus").value("PUBLISHED"))
+            .andExpect(jsonPath("_embedded.eventList[0].description").doesNotExist())
+            .andExpect(jsonPath("_embedded.eventList[0].manager").doesNotExist())
+            .andExpect(jsonPath("_embedded.eventList[0].values").doesNotExist())
+            .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+            .andExpect(jsonPath("_links.profile").exists());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("필요한 필드만 골라서 이벤트 하나 조회하기")
+    void getEventWithFields() throws Exception {
+        //Given
+        Event event = this.generateEvent(300);
+
+        //When && Then
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+            .param("fields", "name,beginEventDateTime"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("id").value(event.getId()))
+            .andExpect(jsonPath("name").value("event 300"))
+            .andExpect(jsonPath("$", hasKey("beginEventDateTime")))
+            .andExpect(jsonPath("description").doesNotExist())
+            .andExpect(jsonPath("_links.self.href").value(endsWith("/api/events/" + event.getId())))
+            .andExpect(jsonPath("_links.profile").exists());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("필드를 골라 조회한 ETag 는 전체 표현이나 다른 필드 조합의 ETag 와 다르다")
+    void getEventWithFieldsETag() throws Exception {
+        //Given
+        Event event = this.generateEvent(301);
+        String fullETag = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String fieldsETag = this.mockMvc.perform(get("/api/events/{id}", event.getId())
+            .param("fields", "name"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //When && Then
+        assertThat(fieldsETag).isNotEqualTo(fullETag);
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+            .param("fields", "name")
+            .header(HttpHeaders.IF_NONE_MATCH, fullETag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("name").value("event 301"));
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+            .param("fields", "name,description")
+            .header(HttpHeaders.IF_NONE_MATCH, fieldsETag))
+            .andExpect(status().isOk());
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+            .header(HttpHeaders.IF_NONE_MATCH, fieldsETag))
+            .andExpect(status().isOk());
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+            .param("fields", " name ")
+            .header(HttpHeaders.IF_NONE_MATCH, fieldsETag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("고를 수 없는 필드로 조회하는 경우 BadRequest")
+    void queryEventsWithWrongFields() throws Exception {
+        this.mockMvc.perform(get("/api/events")
+            .param("fields", "name,manager"))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("관리자가 서로 다른 이벤트 20개를 조회해도 SQL 문장 수가 늘지 않는다")
+    void queryEventsWithManagersStatementCount() throws Exception {
+        //Given
+        IntStream.range(0, 20).forEach(i -> {
+            Account manager = this.accountRepository.save(Account.builder()
+                .email("manager" + i + "@n1.com")
+                .password("pass")
+                .roles(new HashSet<>(Set.of(AccountRole.USER)))
+                .build());
+            this.eventRepository.save(Event.builder()
+                .name("managed event " + i)
+                .basePrice(5555)
+                .manager(manager)
+                .build());
+        });
+
+        //When
+        long statements = statementCounter.count(() -> this.mockMvc.perform(get("/api/events")
+            .param("minPrice", "5555")
+            .param("maxPrice", "5555")
+            .param("size", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("_embedded.eventList.length()").value(20))
+            .andExpect(jsonPath("_embedded.eventList[0].manager.email").exists())
+            .andExpect(jsonPath("_embedded.eventList[0].manager.password").doesNotExist()));
+
+        //Then
+        assertThat(statements).isBetween(1L, 2L);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("관리자가 있는 이벤트 하나를 조회할 때 SQL 문장 수 상한")
+    void getEventWithManagerStatementCount() throws Exception {
+        //Given
+        Account manager = this.accountRepository.save(Account.builder()
+            .email("detail-manager@n1.com")
+            .password("pass")
+            .roles(new HashSet<>(Set.of(AccountRole.USER)))
+            .build());
+        Event event = this.eventRepository.save(Event.builder()
+            .name("managed event")
+            .manager(manager)
+            .build());
+
+        //When
+        long statements = statementCounter.count(() -> this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("manager.email").value("detail-manager@n1.com")));
+
+        //Then
+        assertThat(statements).isLessThanOrEqualTo(2);
+    }
+
     @Test
     @DisplayName("기존의 이벤트를 하나 조회하기")
     void getEvent() throws Exception {
@@ -229,6 +855,59 @@ public class EventControllerTest extends BaseControllerTest {
             .andDo(document("get-an-event"));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("변경되지 않은 이벤트를 다시 조회하면 NotModified")
+    void getNotModifiedEvent() throws Exception {
+        //Given
+        var event = this.generateEvent(100);
+        String eTag = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //When&Then
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andDo(print())
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("다른 클라이언트가 먼저 수정한 이벤트를 수정하는 경우 PreconditionFailed")
+    void updateConflictedEvent() throws Exception {
+        //Given
+        Event event = this.generateEvent(100);
+        EventDto eventDto = EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2020, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2020, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2020, 6, 8, 12, 0))
+            .build();
+        String eTag = "\"" + event.getVersion() + "\"";
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+            .with(csrf())
+            .header(HttpHeaders.IF_MATCH, eTag)
+            .contentType(APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(eventDto)))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (event.getVersion() + 1) + "\""));
+
+        //When&Then
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+            .with(csrf())
+            .header(HttpHeaders.IF_MATCH, eTag)
+            .contentType(APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(eventDto)))
+            .andDo(print())
+            .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     @DisplayName("없는 이벤트를 조회하는 경우 NotFound")
     void getNotExistEvent() throws Exception {
@@ -336,6 +1015,120 @@ public class EventControllerTest extends BaseControllerTest {
             .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("JSON Merge Patch 로 이벤트 일부 수정")
+    void patchEvent() throws Exception {
+        // Given
+        Event event = this.generatePatchableEvent();
+
+        // When && Then
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .with(csrf())
+            .header(HttpHeaders.IF_MATCH, "\"" + event.getVersion() + "\"")
+            .contentType(JsonMergePatch.MEDIA_TYPE_VALUE)
+            .content("{\"name\":\"Spring Patch\"}"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (event.getVersion() + 1) + "\""))
+            .andExpect(jsonPath("name").value("Spring Patch"))
+            .andExpect(jsonPath("description").value(event.getDescription()))
+            .andExpect(jsonPath("basePrice").value(100))
+            .andExpect(jsonPath("offline").value(true))
+            .andExpect(jsonPath("_links.self").exists())
+            .andExpect(jsonPath("_links.profile").exists())
+            .andDo(document("patch-event"));
+
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("name").value("Spring Patch"))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (event.getVersion() + 1) + "\""));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("가격과 장소를 수정하면 free, offline 을 다시 계산")
+    void patchEventDerivedFlags() throws Exception {
+        // Given
+        Event event = this.generatePatchableEvent();
+
+        // When && Then
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .with(csrf())
+            .contentType(JsonMergePatch.MEDIA_TYPE_VALUE)
+            .content("{\"basePrice\":0,\"maxPrice\":0,\"location\":null}"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("free").value(true))
+            .andExpect(jsonPath("offline").value(false))
+            .andExpect(jsonPath("location").doesNotExist());
+
+        Event patched = this.eventRepository.findById(event.getId()).orElseThrow();
+        assertThat(patched.isFree()).isTrue();
+        assertThat(patched.isOffline()).isFalse();
+        assertThat(patched.getLocation()).isNull();
+        assertThat(patched.getName()).isEqualTo(event.getName());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("다른 클라이언트가 먼저 수정한 이벤트를 패치하는 경우 PreconditionFailed")
+    void patchConflictedEvent() throws Exception {
+        // Given
+        Event event = this.generatePatchableEvent();
+        String eTag = "\"" + event.getVersion() + "\"";
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .with(csrf())
+            .header(HttpHeaders.IF_MATCH, eTag)
+            .contentType(JsonMergePatch.MEDIA_TYPE_VALUE)
+            .content("{\"name\":\"first\"}"))
+            .andExpect(status().isOk());
+
+        // When && Then
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .with(csrf())
+            .header(HttpHeaders.IF_MATCH, eTag)
+            .contentType(JsonMergePatch.MEDIA_TYPE_VALUE)
+            .content("{\"name\":\"second\"}"))
+            .andDo(print())
+            .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("패치를 합친 결과가 잘못되었거나 모르는 필드가 있으면 BadRequest")
+    void patchInvalidEvent() throws Exception {
+        // Given
+        Event event = this.generatePatchableEvent();
+
+        // When && Then
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .with(csrf())
+            .contentType(JsonMergePatch.MEDIA_TYPE_VALUE)
+            .content("{\"basePrice\":50000}"))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .with(csrf())
+            .contentType(JsonMergePatch.MEDIA_TYPE_VALUE)
+            .content("{\"name\":null}"))
+            .andExpect(status().isBadRequest());
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .with(csrf())
+            .contentType(JsonMergePatch.MEDIA_TYPE_VALUE)
+            .content("{\"eventStatus\":\"PUBLISHED\"}"))
+            .andExpect(status().isBadRequest());
+        this.mockMvc.perform(patch("/api/events/{id}", 53982750)
+            .with(csrf())
+            .contentType(JsonMergePatch.MEDIA_TYPE_VALUE)
+            .content("{\"name\":\"none\"}"))
+            .andExpect(status().isNotFound());
+    }
+
+    private String linkOf(MvcResult result, String rel) throws Exception {
+        return JsonPath.read(result.getResponse().getContentAsString(), "_links." + rel + ".href");
+    }
+
     private Event generateEvent(int index) {
         Event event = Event.builder()
             .name("event " + index)
@@ -344,4 +1137,23 @@ public class EventControllerTest extends BaseControllerTest {
 
         return this.eventRepository.save(event);
     }
+
+    private Event generatePatchableEvent() {
+        Event event = Event.builder()
+            .name("patch event")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2020, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2020, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2020, 6, 8, 12, 0))
+            .location("강남역 D2 스타트업 팩토리")
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .eventStatus(EventStatus.DRAFT)
+            .build();
+        event.update();
+
+        return this.eventRepository.save(event);
+    }
 }
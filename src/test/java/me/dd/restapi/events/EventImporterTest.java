@@ -0,0 +1,113 @@
+package me.dd.restapi.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.validation.Validator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.validation.Errors;
+
+import com.jayway.jsonpath.JsonPath;
+
+import me.dd.restapi.BaseControllerTest;
+
+class EventImporterTest extends BaseControllerTest {
+
+    private static final String BROKEN = "broken event";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    EventMapper eventMapper;
+
+    @Autowired
+    EventIntervalIndex eventIntervalIndex;
+
+    @Autowired
+    EventCacheEvictor eventCacheEvictor;
+
+    @Autowired
+    Validator validator;
+
+    private EventImporter eventImporter;
+
+    @BeforeEach
+    void setUp() {
+        EventValidator brokenValidator = new EventValidator() {
+            @Override
+            public void validate(EventDto eventDto, Errors errors) {
+                if (BROKEN.equals(eventDto.getName())) {
+                    throw new IllegalStateException("validator failed");
+                }
+                super.validate(eventDto, errors);
+            }
+        };
+        eventImporter = new EventImporter(jdbcTemplate, transactionManager, eventMapper, brokenValidator,
+            eventIntervalIndex, eventCacheEvictor, validator, objectMapper, 2, 10, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventImporter.destroy();
+    }
+
+    @Test
+    @DisplayName("검증이 예외를 던진 줄은 줄 번호와 함께 거절되고 거절된 수에 들어간다")
+    void rejectLineWhenValidationThrows() throws Exception {
+        // Given
+        EventDto brokenEvent = EventDto.builder()
+            .name(BROKEN)
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2036, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2036, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2036, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2036, 6, 8, 12, 0))
+            .build();
+        EventDto blankNameEvent = EventDto.builder()
+            .name("")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2036, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2036, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2036, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2036, 6, 8, 12, 0))
+            .build();
+        String body = String.join("\n",
+            objectMapper.writeValueAsString(blankNameEvent),
+            objectMapper.writeValueAsString(brokenEvent));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        eventImporter.importEvents(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), outputStream);
+
+        // Then
+        List<String> lines = List.of(outputStream.toString(StandardCharsets.UTF_8).split("\n"));
+        assertThat(lines).hasSize(3);
+        assertThat(lines.subList(0, 2)).anySatisfy(line -> {
+            assertThat(JsonPath.<Integer>read(line, "line")).isEqualTo(1);
+            assertThat(JsonPath.<String>read(line, "errors[0].field")).isEqualTo("name");
+        });
+        assertThat(lines.subList(0, 2)).anySatisfy(line -> {
+            assertThat(JsonPath.<Integer>read(line, "line")).isEqualTo(2);
+            assertThat(JsonPath.<String>read(line, "errors[0].code")).isEqualTo("invalidEvent");
+            assertThat(JsonPath.<String>read(line, "errors[0].defaultMessage")).isEqualTo("validator failed");
+        });
+        assertThat(JsonPath.<Integer>read(lines.get(2), "imported")).isZero();
+        assertThat(JsonPath.<Integer>read(lines.get(2), "rejected")).isEqualTo(2);
+    }
+}
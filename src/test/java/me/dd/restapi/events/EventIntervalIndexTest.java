@@ -0,0 +1,112 @@
+package me.dd.restapi.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventIntervalIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2020, 6, 1, 0, 0);
+
+    private EventIntervalIndex eventIntervalIndex;
+
+    @BeforeEach
+    void setUp() {
+        eventIntervalIndex = new EventIntervalIndex(Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("등록 기간에 시점이 포함되는 이벤트만 찾는다")
+    void findEnrollingAt() {
+        // Given
+        eventIntervalIndex.put(summary(1, 1L, BASE, BASE.plusDays(3)));
+        eventIntervalIndex.put(summary(2, 1L, BASE.plusDays(2), BASE.plusDays(10)));
+        eventIntervalIndex.put(summary(3, 1L, BASE.plusDays(5), BASE.plusDays(6)));
+
+        // When && Then
+        assertThat(eventIntervalIndex.findEnrollingAt(BASE.plusDays(2).plusHours(12)))
+            .extracting(EventSummary::getId)
+            .containsExactly(1, 2);
+        assertThat(eventIntervalIndex.findEnrollingAt(BASE.plusDays(3)))
+            .extracting(EventSummary::getId)
+            .containsExactly(2);
+        assertThat(eventIntervalIndex.findEnrollingAt(BASE.minusDays(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이벤트 기간이 조회 구간과 겹치는 이벤트를 중복 없이 찾는다")
+    void findHappeningBetween() {
+        // Given
+        eventIntervalIndex.put(summary(1, 1L, BASE, BASE.plusDays(3)));
+        eventIntervalIndex.put(summary(2, 1L, BASE.plusDays(4), BASE.plusDays(5)));
+        eventIntervalIndex.put(summary(3, 1L, BASE.plusDays(8), BASE.plusDays(9)));
+
+        // When && Then
+        assertThat(eventIntervalIndex.findHappeningBetween(BASE.plusDays(1), BASE.plusDays(6)))
+            .extracting(EventSummary::getId)
+            .containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("수정된 이벤트는 이전 구간에서 빠지고 오래된 버전은 무시한다")
+    void putReplacesPreviousInterval() {
+        // Given
+        eventIntervalIndex.put(summary(1, 2L, BASE, BASE.plusDays(1)));
+
+        // When
+        eventIntervalIndex.put(summary(1, 3L, BASE.plusDays(10), BASE.plusDays(11)));
+        eventIntervalIndex.put(summary(1, 1L, BASE, BASE.plusDays(1)));
+
+        // Then
+        assertThat(eventIntervalIndex.findEnrollingAt(BASE)).isEmpty();
+        assertThat(eventIntervalIndex.findEnrollingAt(BASE.plusDays(10))).hasSize(1);
+        assertThat(eventIntervalIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기간이 비어 있는 이벤트는 인덱스에 걸리지 않는다")
+    void putWithoutInterval() {
+        // Given
+        eventIntervalIndex.put(summary(1, 1L, null, null));
+
+        // When && Then
+        assertThat(eventIntervalIndex.findEnrollingAt(BASE)).isEmpty();
+        assertThat(eventIntervalIndex.findHappeningBetween(BASE, BASE.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수천 년짜리 구간도 버킷에 펼치지 않고 찾으며 수정하면 빠진다")
+    void putVeryLongInterval() {
+        // Given
+        LocalDateTime begin = LocalDateTime.of(1, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(9999, 12, 31, 0, 0);
+        eventIntervalIndex.put(summary(1, 1L, begin, end));
+        eventIntervalIndex.put(summary(2, 1L, BASE, BASE.plusDays(1)));
+
+        // When && Then
+        assertThat(eventIntervalIndex.findEnrollingAt(BASE))
+            .extracting(EventSummary::getId)
+            .containsExactly(1, 2);
+        assertThat(eventIntervalIndex.findHappeningBetween(BASE.plusYears(100), BASE.plusYears(200)))
+            .extracting(EventSummary::getId)
+            .containsExactly(1);
+        assertThat(eventIntervalIndex.findEnrollingAt(end)).isEmpty();
+
+        eventIntervalIndex.put(summary(1, 2L, BASE.plusDays(10), BASE.plusDays(11)));
+        assertThat(eventIntervalIndex.findEnrollingAt(BASE))
+            .extracting(EventSummary::getId)
+            .containsExactly(2);
+        assertThat(eventIntervalIndex.findEnrollingAt(BASE.plusDays(10)))
+            .extracting(EventSummary::getId)
+            .containsExactly(1);
+    }
+
+    private EventSummary summary(Integer id, Long version, LocalDateTime begin, LocalDateTime end) {
+        return new EventSummary(id, version, "event " + id, EventStatus.PUBLISHED, begin, end, begin, end);
+    }
+}
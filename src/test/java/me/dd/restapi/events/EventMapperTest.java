@@ -0,0 +1,57 @@
+package me.dd.restapi.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class EventMapperTest {
+
+    private final EventMapper eventMapper = new EventMapper();
+
+    @Test
+    void toEvent() {
+        // Given
+        EventDto eventDto = EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2020, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2020, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2020, 6, 8, 12, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("강남역 D2 스타트업 팩토리")
+            .build();
+
+        // When
+        Event event = eventMapper.toEvent(eventDto);
+
+        // Then
+        assertThat(event.getId()).isNull();
+        assertThat(event.getEventStatus()).isEqualTo(EventStatus.DRAFT);
+        assertThat(eventMapper.toDto(event)).isEqualTo(eventDto);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"0,0,,true,false", "100,0,강남역,false,true", "0,100, ,false,false"}, delimiter = ',')
+    void toEventUpdatesDerivedFlags(int basePrice, int maxPrice, String location, boolean free, boolean offline) {
+        // Given
+        EventDto eventDto = EventDto.builder()
+            .basePrice(basePrice)
+            .maxPrice(maxPrice)
+            .location(location)
+            .build();
+
+        // When
+        Event event = eventMapper.toEvent(eventDto);
+
+        // Then
+        assertThat(event.isFree()).isEqualTo(free);
+        assertThat(event.isOffline()).isEqualTo(offline);
+    }
+}
@@ -0,0 +1,91 @@
+package me.dd.restapi.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import me.dd.restapi.BaseControllerTest;
+
+class EventPatcherTest extends BaseControllerTest {
+
+    @Autowired
+    EventPatcher eventPatcher;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("다른 요청이 먼저 고쳤으면 영속 상태의 이벤트를 건드리지 않아 flush 해도 다시 쓰지 않는다")
+    void conflictLeavesManagedEventClean() {
+        // Given
+        Event event = generateEvent();
+
+        // When & Then
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Event managed = entityManager.find(Event.class, event.getId());
+            jdbcTemplate.update("update event set version = version + 1 where id = ?", event.getId());
+            EventDto eventDto = eventPatcher.merge(managed, objectMapper.createObjectNode().put("name", "rejected"));
+
+            assertThat(eventPatcher.apply(managed, eventDto)).isFalse();
+            assertThat(managed.getName()).isEqualTo("patched event");
+            assertThat(managed.getVersion()).isEqualTo(event.getVersion());
+            entityManager.flush();
+        });
+        assertThat(jdbcTemplate.queryForObject("select name from event where id = ?", String.class, event.getId()))
+            .isEqualTo("patched event");
+    }
+
+    @Test
+    @DisplayName("쓰기에 성공하면 이벤트를 영속성 컨텍스트에서 떼어 낸 뒤 고친다")
+    void appliedEventIsDetached() {
+        // Given
+        Event event = generateEvent();
+
+        // When & Then
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Event managed = entityManager.find(Event.class, event.getId());
+            EventDto eventDto = eventPatcher.merge(managed, objectMapper.createObjectNode().put("basePrice", 100));
+
+            assertThat(eventPatcher.apply(managed, eventDto)).isTrue();
+            assertThat(entityManager.contains(managed)).isFalse();
+            assertThat(managed.isFree()).isFalse();
+            assertThat(managed.getVersion()).isEqualTo(event.getVersion() + 1);
+            entityManager.flush();
+        });
+        assertThat(jdbcTemplate.queryForObject("select version from event where id = ?", Long.class, event.getId()))
+            .isEqualTo(event.getVersion() + 1);
+    }
+
+    private Event generateEvent() {
+        Event event = Event.builder()
+            .name("patched event")
+            .description("patch")
+            .beginEnrollmentDateTime(LocalDateTime.of(2030, 1, 1, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2030, 1, 2, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2030, 1, 3, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2030, 1, 4, 12, 0))
+            .limitOfEnrollment(10)
+            .eventStatus(EventStatus.DRAFT)
+            .build();
+        event.update();
+        return eventRepository.save(event);
+    }
+}
@@ -0,0 +1,156 @@
+package me.dd.restapi.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import me.dd.restapi.common.StatementRecorder;
+
+@SpringBootTest(properties = StatementRecorder.PROPERTY)
+@ActiveProfiles("test")
+class EventRepositoryTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("한번 읽은 이벤트는 2차 캐시에서 읽는다")
+    void findByIdFromSecondLevelCache() {
+        // Given
+        Event event = eventRepository.save(Event.builder().name("cached").build());
+        eventRepository.findById(event.getId());
+        long hitCount = statistics.getDomainDataRegionStatistics("event").getHitCount();
+        long loadCount = statistics.getEntityLoadCount();
+
+        // When
+        eventRepository.findById(event.getId());
+
+        // Then
+        assertThat(statistics.getDomainDataRegionStatistics("event").getHitCount()).isEqualTo(hitCount + 1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loadCount);
+    }
+
+    @Test
+    @DisplayName("앞쪽 페이지 조회 결과는 쿼리 캐시에서 읽는다")
+    void findAllCachedFromQueryCache() {
+        // Given
+        eventRepository.save(Event.builder().name("cached page").build());
+        eventRepository.findAllCached(PageRequest.of(0, 10));
+        long queryCacheHitCount = statistics.getQueryCacheHitCount();
+        long queryExecutionCount = statistics.getQueryExecutionCount();
+
+        // When
+        eventRepository.findAllCached(PageRequest.of(0, 10));
+
+        // Then
+        assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(queryCacheHitCount);
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(queryExecutionCount);
+    }
+
+    @Test
+    @DisplayName("필터 조건에 맞는 이벤트만 조회한다")
+    void findAllBySpecification() {
+        // Given
+        LocalDateTime beginEnrollmentDateTime = LocalDateTime.of(2032, 1, 1, 0, 0);
+        eventRepository.save(Event.builder().name("spec match").eventStatus(EventStatus.BEGAN_ENROLLMENT)
+            .beginEnrollmentDateTime(beginEnrollmentDateTime).free(true).build());
+        eventRepository.save(Event.builder().name("spec other status").eventStatus(EventStatus.PUBLISHED)
+            .beginEnrollmentDateTime(beginEnrollmentDateTime).free(true).build());
+        eventRepository.save(Event.builder().name("spec not free").eventStatus(EventStatus.BEGAN_ENROLLMENT)
+            .beginEnrollmentDateTime(beginEnrollmentDateTime).free(false).build());
+        EventSearchCondition condition = EventSearchCondition.builder()
+            .eventStatus(EventStatus.BEGAN_ENROLLMENT)
+            .free(true)
+            .enrollmentFrom(beginEnrollmentDateTime)
+            .enrollmentTo(beginEnrollmentDateTime.plusDays(1))
+            .build();
+
+        // When
+        Page<Event> events = eventRepository.findAll(EventSpecifications.of(condition), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(events.getContent()).extracting(Event::getName).containsExactly("spec match");
+    }
+
+    @Test
+    @DisplayName("상태와 이벤트 시작 시각 필터로 만든 쿼리는 복합 인덱스를 사용한다")
+    void eventStatusAndBeginEventUsesIndex() throws Exception {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2020, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, 2, 1, 0, 0);
+        EventSearchCondition condition = EventSearchCondition.builder()
+            .eventStatus(EventStatus.PUBLISHED)
+            .eventFrom(from)
+            .eventTo(to)
+            .build();
+
+        // When
+        String sql = generatedQuery(() ->
+            eventRepository.findAll(EventSpecifications.of(condition), PageRequest.of(0, 10)));
+
+        // Then
+        String plan = explain(sql, EventStatus.PUBLISHED.name(), Timestamp.valueOf(from), Timestamp.valueOf(to), 10);
+        assertThat(plan).containsIgnoringCase("idx_event_status_begin_event");
+    }
+
+    @Test
+    @DisplayName("상태와 등록 시작 시각 필터로 만든 쿼리는 복합 인덱스를 사용한다")
+    void eventStatusAndBeginEnrollmentUsesIndex() throws Exception {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2020, 1, 1, 0, 0);
+        EventSearchCondition condition = EventSearchCondition.builder()
+            .eventStatus(EventStatus.BEGAN_ENROLLMENT)
+            .enrollmentFrom(from)
+            .build();
+
+        // When
+        String sql = generatedQuery(() ->
+            eventRepository.findAll(EventSpecifications.of(condition), PageRequest.of(0, 10)));
+
+        // Then
+        String plan = explain(sql, EventStatus.BEGAN_ENROLLMENT.name(), Timestamp.valueOf(from), 10);
+        assertThat(plan).containsIgnoringCase("idx_event_status_begin_enrollment");
+    }
+
+    /**
+     * Specification 과 리포지토리가 실제로 만든 목록 조회 SQL.
+     */
+    private String generatedQuery(StatementRecorder.Action action) throws Exception {
+        List<String> statements = StatementRecorder.record(action);
+        assertThat(statements).hasSize(1);
+        return statements.get(0);
+    }
+
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class, args);
+    }
+}
@@ -0,0 +1,89 @@
+package me.dd.restapi.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventTimingWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long BASE = 946_684_800_000L;
+
+    @Test
+    @DisplayName("예약한 시각 이후 처음 오는 tick 에 꺼낸다")
+    void advance() {
+        // Given
+        EventTimingWheel wheel = new EventTimingWheel(TICK, BASE);
+        wheel.schedule(1, BASE + 10 * TICK);
+        wheel.schedule(2, BASE + 10 * TICK - 1);
+        wheel.schedule(3, BASE + 10 * TICK + 1);
+        wheel.schedule(4, BASE - TICK);
+
+        // When & Then
+        assertThat(wheel.advance(BASE)).containsExactly(4);
+        assertThat(wheel.advance(BASE + 10 * TICK - 1)).isEmpty();
+        assertThat(wheel.advance(BASE + 10 * TICK)).containsExactlyInAnyOrder(1, 2);
+        assertThat(wheel.advance(BASE + 11 * TICK)).containsExactly(3);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 예약하면 옮기고 취소하면 꺼내지 않는다")
+    void rescheduleAndCancel() {
+        // Given
+        EventTimingWheel wheel = new EventTimingWheel(TICK, BASE);
+        wheel.schedule(1, BASE + 5 * TICK);
+        wheel.schedule(2, BASE + 5 * TICK);
+        wheel.schedule(3, BASE - TICK);
+
+        // When
+        wheel.schedule(1, BASE + 5000 * TICK);
+        wheel.cancel(2);
+        wheel.cancel(3);
+
+        // Then
+        assertThat(wheel.advance(BASE + 4999 * TICK)).isEmpty();
+        assertThat(wheel.advance(BASE + 5000 * TICK)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("모든 단계와 휠 범위 밖의 예약도 제 tick 에 꺼낸다")
+    void matchesBruteForce() {
+        // Given
+        Random random = new Random(42);
+        EventTimingWheel wheel = new EventTimingWheel(TICK, BASE);
+        Map<Integer, Long> expected = new HashMap<>();
+        long[] ranges = {64, 64 * 64, 64 * 64 * 64, 64L * 64 * 64 * 64, 3L * 64 * 64 * 64 * 64};
+        for (int id = 0; id < 2000; id++) {
+            long due = BASE + random.nextInt((int) TICK)
+                + (long) (random.nextDouble() * ranges[id % ranges.length]) * TICK;
+            wheel.schedule(id, due);
+            expected.put(id, Math.floorDiv(due + TICK - 1, TICK));
+        }
+
+        // When
+        Map<Integer, Long> fired = new HashMap<>();
+        long now = BASE;
+        long end = BASE + 3L * 64 * 64 * 64 * 64 * TICK + TICK;
+        while (now < end) {
+            now += (1 + random.nextInt(5000)) * TICK;
+            long tick = Math.floorDiv(now, TICK);
+            List<Integer> due = wheel.advance(now);
+            assertThat(due).allMatch(id -> expected.get(id) <= tick);
+            due.forEach(id -> fired.put(id, tick));
+            assertThat(expected.entrySet())
+                .filteredOn(e -> e.getValue() <= tick)
+                .allMatch(e -> fired.containsKey(e.getKey()));
+        }
+
+        // Then
+        assertThat(fired).hasSameSizeAs(expected);
+        assertThat(wheel.size()).isZero();
+    }
+}
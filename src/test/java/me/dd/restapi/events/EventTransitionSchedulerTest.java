@@ -0,0 +1,129 @@
+package me.dd.restapi.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import me.dd.restapi.BaseControllerTest;
+import me.dd.restapi.common.MutableClock;
+
+/**
+ * 다른 테스트가 만든 이벤트가 바뀌지 않도록 시계를 2000년에 두고 직접 흘린다.
+ */
+class EventTransitionSchedulerTest extends BaseControllerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EventCacheEvictor eventCacheEvictor;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventIntervalIndex eventIntervalIndex;
+
+    private MutableClock clock;
+    private EventTransitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ZoneId zone = ZoneId.systemDefault();
+        clock = new MutableClock(BASE.atZone(zone).toInstant(), zone);
+        scheduler = new EventTransitionScheduler(jdbcTemplate, eventCacheEvictor, eventPublisher, clock,
+            Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("게시된 이벤트만 등록 시작 시각에 BEGAN_ENROLLMENT 로 바뀐다")
+    void transitionAtBeginEnrollment() {
+        // Given
+        Event first = generateEvent(EventStatus.PUBLISHED, BASE.plusSeconds(10));
+        Event second = generateEvent(EventStatus.PUBLISHED, BASE.plusSeconds(10));
+        Event later = generateEvent(EventStatus.PUBLISHED, BASE.plusHours(2));
+        Event far = generateEvent(EventStatus.PUBLISHED, BASE.plusDays(300));
+        Event draft = generateEvent(EventStatus.DRAFT, BASE.plusSeconds(10));
+        eventIntervalIndex.put(first);
+        scheduler.load();
+
+        // When & Then
+        clock.advance(Duration.ofSeconds(9));
+        assertThat(scheduler.tick()).isZero();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(scheduler.tick()).isEqualTo(2);
+        assertThat(eventRepository.findById(first.getId()).orElseThrow())
+            .extracting(Event::getEventStatus, Event::getVersion)
+            .containsExactly(EventStatus.BEGAN_ENROLLMENT, first.getVersion() + 1);
+        assertThat(eventRepository.findById(second.getId()).orElseThrow().getEventStatus())
+            .isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+        assertThat(eventRepository.findById(later.getId()).orElseThrow().getEventStatus())
+            .isEqualTo(EventStatus.PUBLISHED);
+        assertThat(eventRepository.findById(draft.getId()).orElseThrow().getEventStatus())
+            .isEqualTo(EventStatus.DRAFT);
+        assertThat(eventIntervalIndex.findEnrollingAt(BASE.plusSeconds(10)))
+            .filteredOn(summary -> summary.getId().equals(first.getId()))
+            .extracting(EventSummary::getEventStatus)
+            .containsExactly(EventStatus.BEGAN_ENROLLMENT);
+
+        clock.advance(Duration.ofHours(2));
+        assertThat(scheduler.tick()).isEqualTo(1);
+        clock.advance(Duration.ofDays(300));
+        assertThat(scheduler.tick()).isEqualTo(1);
+        assertThat(eventRepository.findById(far.getId()).orElseThrow().getEventStatus())
+            .isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+    }
+
+    @Test
+    @DisplayName("수정되면 이전 예약을 지우고 새 시각이나 상태를 따른다")
+    void reschedule() {
+        // Given
+        Event moved = generateEvent(EventStatus.PUBLISHED, BASE.plusSeconds(10));
+        Event unpublished = generateEvent(EventStatus.PUBLISHED, BASE.plusSeconds(10));
+        scheduler.schedule(moved);
+        scheduler.schedule(unpublished);
+
+        // When
+        moved.setBeginEnrollmentDateTime(BASE.plusHours(1));
+        scheduler.schedule(eventRepository.save(moved));
+        unpublished.setEventStatus(EventStatus.DRAFT);
+        scheduler.schedule(eventRepository.save(unpublished));
+
+        // Then
+        assertThat(scheduler.scheduled()).isEqualTo(1);
+        clock.advance(Duration.ofSeconds(10));
+        assertThat(scheduler.tick()).isZero();
+        clock.advance(Duration.ofHours(1));
+        assertThat(scheduler.tick()).isEqualTo(1);
+        assertThat(eventRepository.findById(moved.getId()).orElseThrow().getEventStatus())
+            .isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+        assertThat(eventRepository.findById(unpublished.getId()).orElseThrow().getEventStatus())
+            .isEqualTo(EventStatus.DRAFT);
+    }
+
+    private Event generateEvent(EventStatus eventStatus, LocalDateTime beginEnrollmentDateTime) {
+        return eventRepository.save(Event.builder()
+            .name("scheduled event")
+            .description("transition")
+            .beginEnrollmentDateTime(beginEnrollmentDateTime)
+            .closeEnrollmentDateTime(beginEnrollmentDateTime.plusDays(1))
+            .beginEventDateTime(beginEnrollmentDateTime.plusDays(2))
+            .endEventDateTime(beginEnrollmentDateTime.plusDays(3))
+            .eventStatus(eventStatus)
+            .build());
+    }
+}
@@ -0,0 +1,63 @@
+package me.dd.restapi.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import me.dd.restapi.accounts.Account;
+
+class EventViewSerializerTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(EventView.class, new EventViewSerializer()));
+    }
+
+    @Test
+    void serialize() throws Exception {
+        // Given
+        Event event = Event.builder()
+            .id(1)
+            .name("Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .basePrice(100)
+            .eventStatus(EventStatus.DRAFT)
+            .manager(Account.builder().id(7).email("manager@n1.com").password("secret").build())
+            .build();
+
+        // When
+        String json = objectMapper.writeValueAsString(EventView.of(event));
+
+        // Then
+        assertThat(json).isEqualTo("{\"id\":1,\"name\":\"Spring\",\"description\":null,"
+            + "\"beginEnrollmentDateTime\":\"2020-06-05T12:00:00\",\"closeEnrollmentDateTime\":null,"
+            + "\"beginEventDateTime\":null,\"endEventDateTime\":null,\"location\":null,\"basePrice\":100,"
+            + "\"maxPrice\":0,\"limitOfEnrollment\":0,\"offline\":false,\"free\":false,\"eventStatus\":\"DRAFT\","
+            + "\"manager\":{\"id\":7,\"email\":\"manager@n1.com\"}}");
+    }
+
+    @Test
+    void serializeUnwrapped() throws Exception {
+        // Given
+        Event event = Event.builder().id(1).name("Spring").build();
+        EntityModel<EventView> model = new EntityModel<>(EventView.of(event), new Link("/api/events/1"));
+
+        // When
+        String json = objectMapper.writeValueAsString(model);
+
+        // Then
+        assertThat(json).startsWith("{\"id\":1,\"name\":\"Spring\",");
+        assertThat(json).contains("\"manager\":null,\"links\":[");
+    }
+}
@@ -0,0 +1,217 @@
+package me.dd.restapi.events;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import me.dd.restapi.BaseControllerTest;
+import me.dd.restapi.accounts.Account;
+import me.dd.restapi.accounts.AccountRepository;
+import me.dd.restapi.accounts.AccountRole;
+
+@ActiveProfiles("reactive")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:reactivedb",
+    "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:reactivedb",
+    "spring.r2dbc.url=r2dbc:h2:mem:///reactivedb",
+    "spring.r2dbc.username=sa",
+    "spring.r2dbc.password="
+})
+public class ReactiveEventControllerTest extends BaseControllerTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Test
+    @WithMockUser
+    @DisplayName("reactive 프로파일에서 이벤트 하나를 MVC 와 같은 HAL 형식으로 조회")
+    public void getEvent() throws Exception {
+        // Given
+        Event event = generateEvent("reactive-get");
+
+        // When
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        String body = this.mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+            .andExpect(jsonPath("_links.self.href").value(endsWith("/api/events/" + event.getId())))
+            .andExpect(jsonPath("_links.profile").exists())
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        ObjectNode content = (ObjectNode) objectMapper.readTree(body);
+        content.remove("_links");
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsString(EventView.of(event)));
+        assertThat(content).isEqualTo(expected);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("reactive 프로파일에서 ETag 가 같으면 304 를 응답")
+    public void getEventNotModified() throws Exception {
+        // Given
+        Event event = generateEvent("reactive-etag");
+
+        // When
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events/{id}", event.getId())
+            .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("reactive 프로파일에서 없는 이벤트를 조회하면 404")
+    public void getEvent404() throws Exception {
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events/{id}", 118273))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("reactive 프로파일에서 이벤트 목록을 페이지로 조회")
+    public void queryEvents() throws Exception {
+        // Given
+        for (int i = 0; i < 12; i++) {
+            generateEvent("reactive-list-" + i);
+        }
+        long total = eventRepository.count();
+
+        // When
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events")
+            .param("page", "0")
+            .param("size", "10")
+            .param("sort", "name,DESC"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page.size").value(10))
+            .andExpect(jsonPath("page.totalElements").value(total))
+            .andExpect(jsonPath("_embedded.eventList", hasSize(10)))
+            .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+            .andExpect(jsonPath("_embedded.eventList[0].manager.email").exists())
+            .andExpect(jsonPath("_links.self").exists())
+            .andExpect(jsonPath("_links.next.href").value(containsString("page=1")))
+            .andExpect(jsonPath("_links.profile").exists());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("reactive 프로파일에서 정렬할 수 없는 속성으로 목록을 조회하면 400")
+    public void queryEventsWrongSort() throws Exception {
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events")
+            .param("sort", "manager"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("reactive 프로파일에서도 필드 선택, 필터, 구간 조회나 모르는 파라미터가 있는 조회는 EventController 가 처리")
+    public void mvcHandlersStillServeOtherReads() throws Exception {
+        Event event = generateEvent("reactive-fallback");
+
+        this.mockMvc.perform(get("/api/events").param("fields", "name"))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isOk());
+        this.mockMvc.perform(get("/api/events").param("eventStatus", "PUBLISHED"))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isOk());
+        this.mockMvc.perform(get("/api/events").param("page", "0").param("newFilter", "value"))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isOk());
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()).param("fields", "name"))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isOk());
+        this.mockMvc.perform(get("/api/events.json"))
+            .andExpect(request().asyncNotStarted());
+        this.mockMvc.perform(get("/api/events/enrolling"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("reactive 프로파일에서도 이벤트 생성은 EventController 가 처리")
+    public void createEventFallsThrough() throws Exception {
+        EventDto eventDto = EventDto.builder()
+            .name("reactive-create")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2020, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2020, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2020, 6, 8, 12, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .build();
+
+        this.mockMvc.perform(post("/api/events")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(eventDto)))
+            .andExpect(status().isCreated());
+    }
+
+    private Event generateEvent(String name) {
+        Account manager = accountRepository.save(Account.builder()
+            .email(name + "@dd.me")
+            .password("pass")
+            .roles(Set.of(AccountRole.USER))
+            .build());
+        Event event = Event.builder()
+            .name(name)
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 5, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2020, 6, 6, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2020, 6, 7, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2020, 6, 8, 12, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("강남역 D2 스타트업 팩토리")
+            .eventStatus(EventStatus.PUBLISHED)
+            .manager(manager)
+            .build();
+        event.update();
+        return eventRepository.save(event);
+    }
+}
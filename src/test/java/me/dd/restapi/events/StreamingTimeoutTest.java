@@ -0,0 +1,109 @@
+package me.dd.restapi.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * 실제 서버에서 기본 비동기 타임아웃(1초)보다 오래 걸리는 가져오기가 끊기지 않는지 확인한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.mvc.async.request-timeout=1s",
+    "app.streaming.timeout=PT30S",
+    "spring.datasource.url=jdbc:h2:mem:streamdb",
+    "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:streamdb"
+})
+class StreamingTimeoutTest {
+
+    private static final int LINES = 6;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("기본 타임아웃보다 오래 걸리는 가져오기도 요약 줄까지 받는다")
+    void importLongerThanDefaultTimeout() throws Exception {
+        // Given
+        String accessToken = getAccessToken();
+        HttpURLConnection connection = (HttpURLConnection) new URL(
+            "http://localhost:" + port + "/api/events/import").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setChunkedStreamingMode(0);
+        connection.setRequestProperty(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+        connection.setRequestProperty(HttpHeaders.CONTENT_TYPE, "application/x-ndjson");
+        connection.setRequestProperty(HttpHeaders.ACCEPT, "application/x-ndjson");
+
+        // When
+        try (OutputStream body = connection.getOutputStream()) {
+            for (int i = 0; i < LINES; i++) {
+                body.write((objectMapper.writeValueAsString(eventDto(i)) + "\n").getBytes(StandardCharsets.UTF_8));
+                body.flush();
+                Thread.sleep(400);
+            }
+        }
+
+        // Then
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+            lines = reader.lines().collect(Collectors.toList());
+        }
+        assertThat(lines).hasSize(1);
+        assertThat(JsonPath.<Integer>read(lines.get(0), "imported")).isEqualTo(LINES);
+    }
+
+    private String getAccessToken() {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("username", "dqrd123@gmail.com");
+        form.add("password", "c940429kk");
+        form.add("grant_type", "password");
+        String response = restTemplate.withBasicAuth("myApp", "pass")
+            .postForObject("/oauth/token", form, String.class);
+        return JsonPath.read(response, "access_token");
+    }
+
+    private EventDto eventDto(int i) {
+        return EventDto.builder()
+            .name("slow import " + i)
+            .description("streamed slowly")
+            .beginEnrollmentDateTime(LocalDateTime.of(2036, 1, 1, 12, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2036, 1, 2, 12, 0))
+            .beginEventDateTime(LocalDateTime.of(2036, 1, 3, 12, 0))
+            .endEventDateTime(LocalDateTime.of(2036, 1, 4, 12, 0))
+            .limitOfEnrollment(10)
+            .build();
+    }
+}
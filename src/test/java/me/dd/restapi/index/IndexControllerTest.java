@@ -1,9 +1,17 @@
 package me.dd.restapi.index;
 
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
 
 import me.dd.restapi.BaseControllerTest;
 
@@ -16,4 +24,45 @@ public class IndexControllerTest extends BaseControllerTest {
             .andExpect(jsonPath("_links.events").exists());
 
     }
+
+    @Test
+    @DisplayName("미리 직렬화한 인덱스를 ETag, Content-Length 와 함께 보내고 같은 ETag 면 NotModified")
+    void preSerializedIndex() throws Exception {
+        // Given
+        MvcResult first = this.mockMvc.perform(get("/api/").with(user("index@dd.me")))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaTypes.HAL_JSON))
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("_links.events.href").value(endsWith("/api/events")))
+            .andReturn();
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        byte[] body = first.getResponse().getContentAsByteArray();
+        assertThat(first.getResponse().getContentLength()).isEqualTo(body.length);
+
+        // When & Then
+        this.mockMvc.perform(get("/api/").with(user("index@dd.me")))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().bytes(body));
+        this.mockMvc.perform(get("/api/").with(user("index@dd.me")).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+        this.mockMvc.perform(get("/api/").with(user("index@dd.me")).header(HttpHeaders.HOST, "api.dd.me"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("_links.events.href").value(startsWith("http://api.dd.me")));
+    }
+
+    @Test
+    @DisplayName("Accept 가 hal+json 을 받지 않으면 일반 내용 협상을 따른다")
+    void indexContentNegotiation() throws Exception {
+        this.mockMvc.perform(get("/api/").with(user("index@dd.me")).accept(MediaType.APPLICATION_XML))
+            .andExpect(status().isNotAcceptable());
+        this.mockMvc.perform(get("/api/").with(user("index@dd.me")).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("_links.events.href").value(endsWith("/api/events")));
+        this.mockMvc.perform(get("/api/").with(user("index@dd.me")).accept(MediaTypes.HAL_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)));
+    }
 }